@@ -2,7 +2,6 @@ package com.poolapp.pool.controller;
 
 import com.poolapp.pool.dto.UserDTO;
 import com.poolapp.pool.security.JwtAuthenticationResponse;
-import com.poolapp.pool.security.JwtService;
 import com.poolapp.pool.security.request.RefreshTokenRequest;
 import com.poolapp.pool.security.request.UserLoginRequest;
 import com.poolapp.pool.service.AuthService;
@@ -20,7 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
-    private final JwtService jwtService;
 
     @PostMapping("/register")
     public ResponseEntity<JwtAuthenticationResponse> register(@Valid @RequestBody UserDTO userDTO) {
@@ -36,8 +34,14 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<JwtAuthenticationResponse> refreshToken(@RequestBody RefreshTokenRequest request) {
-        JwtAuthenticationResponse response = jwtService.refreshToken(request);
+        JwtAuthenticationResponse response = authService.refreshToken(request);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere() {
+        authService.logoutEverywhere();
+        return ResponseEntity.noContent().build();
+    }
+
 }
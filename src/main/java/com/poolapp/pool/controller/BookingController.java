@@ -1,12 +1,21 @@
 package com.poolapp.pool.controller;
 
+import com.poolapp.pool.dto.BatchBookingResultDTO;
 import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.BookingPageDTO;
 import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.dto.requestDTO.BatchBookingRequest;
 import com.poolapp.pool.dto.requestDTO.BookingUpdateRequest;
 import com.poolapp.pool.dto.requestDTO.RequestBookingDTO;
 import com.poolapp.pool.service.BookingService;
+import com.poolapp.pool.service.IdempotencyService;
+import com.poolapp.pool.util.BookingExportFormat;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,9 +23,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,16 +38,49 @@ import java.util.List;
 @Validated
 public class BookingController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<BookingDTO> createBooking(@Valid @RequestBody BookingDTO bookingDTO) {
-        return ResponseEntity.ok(bookingService.createBooking(bookingDTO));
+    public ResponseEntity<BookingDTO> createBooking(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                    @Valid @RequestBody BookingDTO bookingDTO) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(bookingService.createBooking(bookingDTO));
+        }
+        return ResponseEntity.ok(idempotencyService.execute(bookingDTO.getUserEmail(), idempotencyKey, bookingDTO,
+                BookingDTO.class, () -> bookingService.createBooking(bookingDTO)));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchBookingResultDTO>> createBookings(@Valid @RequestBody BatchBookingRequest request) {
+        return ResponseEntity.ok(bookingService.createBookings(request.getUserEmail(), request.getSessions()));
     }
 
     @PostMapping("/search")
-    public ResponseEntity<List<BookingDTO>> searchBookings(@Valid @RequestBody RequestBookingDTO filterDTO) {
-        return ResponseEntity.ok(bookingService.findBookingsByFilter(filterDTO));
+    public ResponseEntity<List<BookingDTO>> searchBookings(@Valid @RequestBody RequestBookingDTO filterDTO,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit) {
+        BookingPageDTO page = bookingService.findBookingsByFilter(filterDTO, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@Valid @RequestBody RequestBookingDTO filterDTO,
+                                                                @RequestParam(defaultValue = "CSV") BookingExportFormat format) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("bookings." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> bookingService.exportBookingsByFilter(filterDTO, format, out));
     }
 
     @PatchMapping
@@ -2,19 +2,24 @@ package com.poolapp.pool.controller;
 
 import com.poolapp.pool.dto.SessionDTO;
 import com.poolapp.pool.dto.requestDTO.RequestSessionDTO;
+import com.poolapp.pool.dto.requestDTO.SessionGenerationRequest;
 import com.poolapp.pool.dto.validation.UpdateValidation;
+import com.poolapp.pool.service.SessionGeneratorService;
 import com.poolapp.pool.service.SessionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,7 @@ import java.util.List;
 public class SessionController {
 
     private final SessionService sessionService;
+    private final SessionGeneratorService sessionGeneratorService;
 
     @PostMapping
     public ResponseEntity<SessionDTO> createSession(@Valid @RequestBody SessionDTO dto) {
@@ -35,12 +41,22 @@ public class SessionController {
         return ResponseEntity.ok(saved);
     }
 
+    @PostMapping("/generate")
+    public ResponseEntity<Integer> generateSessions(@Valid @RequestBody SessionGenerationRequest request) {
+        return ResponseEntity.ok(sessionGeneratorService.generateSessions(request));
+    }
+
 
     @PostMapping("/search")
     public ResponseEntity<List<SessionDTO>> searchSessions(@Valid @RequestBody RequestSessionDTO filterDto) {
         return ResponseEntity.ok(sessionService.findSessionsByFilter(filterDto));
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<Integer> getRemainingSeats(@RequestParam String poolName, @RequestParam LocalDateTime startTime) {
+        return ResponseEntity.ok(sessionService.getRemainingSeats(poolName, startTime));
+    }
+
     @PatchMapping
     public ResponseEntity<SessionDTO> update(@Validated(UpdateValidation.class) @RequestBody RequestSessionDTO dto) {
         return ResponseEntity.ok(sessionService.updateSession(dto));
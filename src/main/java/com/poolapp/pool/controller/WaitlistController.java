@@ -0,0 +1,33 @@
+package com.poolapp.pool.controller;
+
+import com.poolapp.pool.dto.WaitlistEntryDTO;
+import com.poolapp.pool.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+@Validated
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDTO> joinWaitlist(@Valid @RequestBody WaitlistEntryDTO waitlistEntryDTO) {
+        return ResponseEntity.ok(waitlistService.joinWaitlist(waitlistEntryDTO));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> leaveWaitlist(@Valid @RequestBody WaitlistEntryDTO waitlistEntryDTO) {
+        waitlistService.leaveWaitlist(waitlistEntryDTO);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.poolapp.pool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchBookingResultDTO {
+
+    private SessionDTO sessionDTO;
+
+    private boolean booked;
+
+    private BookingDTO booking;
+
+    private String error;
+
+    public static BatchBookingResultDTO booked(SessionDTO sessionDTO, BookingDTO booking) {
+        return new BatchBookingResultDTO(sessionDTO, true, booking, null);
+    }
+
+    public static BatchBookingResultDTO failed(SessionDTO sessionDTO, String error) {
+        return new BatchBookingResultDTO(sessionDTO, false, null, error);
+    }
+}
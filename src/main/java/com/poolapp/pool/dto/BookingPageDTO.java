@@ -0,0 +1,19 @@
+package com.poolapp.pool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingPageDTO {
+
+    private List<BookingDTO> content;
+
+    private String nextCursor;
+}
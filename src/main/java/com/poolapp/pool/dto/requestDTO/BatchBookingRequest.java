@@ -0,0 +1,29 @@
+package com.poolapp.pool.dto.requestDTO;
+
+import com.poolapp.pool.dto.SessionDTO;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class BatchBookingRequest {
+    @NotBlank
+    @Size(max = 255)
+    @Email
+    private String userEmail;
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@Valid SessionDTO> sessions;
+}
@@ -0,0 +1,29 @@
+package com.poolapp.pool.dto.requestDTO;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SessionGenerationRequest {
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotBlank String> poolNames;
+
+    @NotNull
+    private LocalDate from;
+
+    @NotNull
+    private LocalDate to;
+}
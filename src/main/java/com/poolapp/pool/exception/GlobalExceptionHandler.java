@@ -3,6 +3,7 @@ package com.poolapp.pool.exception;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import com.poolapp.pool.util.exception.ApiErrorMessages;
 import com.poolapp.pool.util.exception.ApiErrorResponse;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -40,11 +41,49 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildAndLogError(request, HttpStatus.UNAUTHORIZED, ApiErrorCode.INVALID_CREDENTIALS, "INVALID_CREDENTIALS", ex, Map.of());
     }
 
+    @ExceptionHandler(InvalidTokenException.class)
+    protected ResponseEntity<Object> handleInvalidToken(InvalidTokenException ex, WebRequest request) {
+        return buildAndLogError(request, HttpStatus.UNAUTHORIZED, ApiErrorCode.UNAUTHORIZED, "INVALID_TOKEN", ex, Map.of());
+    }
+
     @ExceptionHandler(SessionOverlapException.class)
     protected ResponseEntity<Object> handleTimeConflictException(SessionOverlapException ex, WebRequest request) {
         return buildAndLogError(request, HttpStatus.CONFLICT, ApiErrorCode.TIME_CONFLICT, "TIME_CONFLICT", ex, Map.of());
     }
 
+    @ExceptionHandler(NoFreePlacesException.class)
+    protected ResponseEntity<Object> handleNoFreePlaces(NoFreePlacesException ex, WebRequest request) {
+        return buildAndLogError(request, HttpStatus.CONFLICT, ApiErrorCode.BUSINESS_RULE_VIOLATION, "NO_FREE_PLACES", ex, Map.of("reason", "No free places left in the session"));
+    }
+
+    @ExceptionHandler(NoRemainingBookingsException.class)
+    protected ResponseEntity<Object> handleNoRemainingBookings(NoRemainingBookingsException ex, WebRequest request) {
+        return buildAndLogError(request, HttpStatus.CONFLICT, ApiErrorCode.BUSINESS_RULE_VIOLATION, "NO_REMAINING_BOOKINGS", ex, Map.of("reason", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    protected ResponseEntity<Object> handleIdempotencyConflict(IdempotencyConflictException ex, WebRequest request) {
+        return buildAndLogError(request, ex.getHttpStatus(), ApiErrorCode.IDEMPOTENCY_CONFLICT, "IDEMPOTENCY_CONFLICT", ex, Map.of("reason", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    protected ResponseEntity<Object> handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        return buildAndLogError(request, HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, "VALIDATION", ex, Map.of("reason", ex.getMessage()));
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    protected ResponseEntity<Object> handleBadRequest(BadRequestException ex, WebRequest request) {
+        return buildAndLogError(request, HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, "BAD_REQUEST", ex, Map.of("reason", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    protected ResponseEntity<Object> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        ResponseEntity<Object> response = buildAndLogError(request, HttpStatus.SERVICE_UNAVAILABLE, ApiErrorCode.SERVICE_UNAVAILABLE, "OVERLOADED", ex, Map.of("reason", ex.getMessage()));
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(BookingStatusNotActiveException.class)
     protected ResponseEntity<Object> handleBookingStatusNotActive(BookingStatusNotActiveException ex, WebRequest request) {
         Map<String, Object> details = Map.of("message", ex.getMessage());
@@ -0,0 +1,14 @@
+package com.poolapp.pool.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
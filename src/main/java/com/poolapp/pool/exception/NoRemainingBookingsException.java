@@ -0,0 +1,8 @@
+package com.poolapp.pool.exception;
+
+public class NoRemainingBookingsException extends RuntimeException {
+
+    public NoRemainingBookingsException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,13 @@
 package com.poolapp.pool.mapper;
 
 import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.dto.SubscriptionDTO;
+import com.poolapp.pool.dto.SubscriptionTypeDTO;
+import com.poolapp.pool.dto.UserSubscriptionDTO;
 import com.poolapp.pool.dto.requestDTO.RequestBookingDTO;
 import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Builder;
 import org.mapstruct.CollectionMappingStrategy;
@@ -47,6 +52,42 @@ public interface BookingMapper {
     @Mapping(target = "sessionDTO", source = "session")
     List<BookingDTO> toDtoList(List<Booking> bookings);
 
+    List<BookingDTO> toDtoListFromRows(List<BookingSearchRow> rows);
+
+    default BookingDTO toDto(BookingSearchRow row) {
+        if (row == null) {
+            return null;
+        }
+        SessionDTO sessionDTO = SessionDTO.builder()
+                .poolName(row.getPoolName())
+                .startTime(row.getStartTime())
+                .endTime(row.getEndTime())
+                .build();
+
+        UserSubscriptionDTO userSubscriptionDTO = null;
+        if (row.getSubscriptionStatus() != null) {
+            SubscriptionTypeDTO subscriptionTypeDTO = SubscriptionTypeDTO.builder()
+                    .name(row.getSubscriptionTypeName())
+                    .maxBookingsPerMonth(row.getMaxBookingsPerMonth())
+                    .price(row.getPrice())
+                    .durationDays(row.getDurationDays())
+                    .description(row.getSubscriptionTypeDescription())
+                    .build();
+            userSubscriptionDTO = UserSubscriptionDTO.builder()
+                    .userEmail(row.getUserEmail())
+                    .subscriptionDTO(new SubscriptionDTO(subscriptionTypeDTO, row.getSubscriptionStatus()))
+                    .build();
+        }
+
+        return BookingDTO.builder()
+                .userEmail(row.getUserEmail())
+                .sessionDTO(sessionDTO)
+                .userSubscriptionDTO(userSubscriptionDTO)
+                .bookingTime(row.getBookingTime())
+                .status(row.getStatus())
+                .build();
+    }
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
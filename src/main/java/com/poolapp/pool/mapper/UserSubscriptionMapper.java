@@ -23,6 +23,7 @@ public interface UserSubscriptionMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedAt", ignore = true)
+    @Mapping(target = "expiresAt", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "remainingBookings", ignore = true)
     @Mapping(target = "subscription", source = "subscriptionDTO")
@@ -30,6 +31,7 @@ public interface UserSubscriptionMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedAt", ignore = true)
+    @Mapping(target = "expiresAt", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "remainingBookings", ignore = true)
     @Mapping(target = "subscription", source = "requestSubscriptionDTO")
@@ -46,6 +48,7 @@ public interface UserSubscriptionMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedAt", ignore = true)
+    @Mapping(target = "expiresAt", ignore = true)
     @Mapping(target = "remainingBookings", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "subscription", source = "subscriptionDTO")
@@ -53,6 +56,7 @@ public interface UserSubscriptionMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedAt", ignore = true)
+    @Mapping(target = "expiresAt", ignore = true)
     @Mapping(target = "remainingBookings", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "subscription", source = "requestSubscriptionDTO")
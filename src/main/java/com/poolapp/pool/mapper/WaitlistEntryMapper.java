@@ -0,0 +1,19 @@
+package com.poolapp.pool.mapper;
+
+import com.poolapp.pool.dto.WaitlistEntryDTO;
+import com.poolapp.pool.model.WaitlistEntry;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", uses = {SessionMapper.class}, builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface WaitlistEntryMapper {
+
+    @Mapping(target = "userEmail", source = "entry.user.email")
+    @Mapping(target = "sessionDTO", source = "entry.session")
+    @Mapping(target = "createdAt", source = "entry.createdAt")
+    @Mapping(target = "position", source = "position")
+    WaitlistEntryDTO toDto(WaitlistEntry entry, Long position);
+}
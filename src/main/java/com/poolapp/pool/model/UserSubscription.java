@@ -41,4 +41,7 @@ public class UserSubscription {
     @CreatedDate
     @Column(name = "assigned_at", updatable = false)
     private LocalDateTime assignedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 }
\ No newline at end of file
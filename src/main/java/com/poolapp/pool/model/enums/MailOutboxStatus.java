@@ -0,0 +1,5 @@
+package com.poolapp.pool.model.enums;
+
+public enum MailOutboxStatus {
+    PENDING, SENT, DEAD
+}
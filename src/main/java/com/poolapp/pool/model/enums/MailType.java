@@ -0,0 +1,5 @@
+package com.poolapp.pool.model.enums;
+
+public enum MailType {
+    BOOKING_CONFIRMATION
+}
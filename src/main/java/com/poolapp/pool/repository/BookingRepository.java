@@ -3,15 +3,22 @@ package com.poolapp.pool.repository;
 import com.poolapp.pool.model.Booking;
 import com.poolapp.pool.model.BookingId;
 import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, BookingId>, JpaSpecificationExecutor<Booking> {
+public interface BookingRepository extends JpaRepository<Booking, BookingId>, JpaSpecificationExecutor<Booking>, BookingRepositoryCustom {
 
     long countBySessionId(Integer sessionId);
 
@@ -23,14 +30,70 @@ public interface BookingRepository extends JpaRepository<Booking, BookingId>, Jp
 
     List<Booking> findByUser_EmailAndSession_StartTime(String email, LocalDateTime startTime);
 
-    List<Booking> findBySession_StartTimeBeforeAndStatus(LocalDateTime time, BookingStatus status);
+    /**
+     * Marks up to {@code chunkSize} active bookings of sessions that started before {@code now} as COMPLETED
+     * and commits them in a transaction of their own. Rows locked by other transactions are skipped and
+     * picked up by a later chunk or run.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            UPDATE booking SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP
+            WHERE (user_id, session_id) IN (
+                SELECT b.user_id, b.session_id
+                FROM booking b
+                JOIN session s ON s.id = b.session_id
+                WHERE b.status = 'ACTIVE' AND s.start_time < :now
+                LIMIT :chunkSize
+                FOR UPDATE OF b SKIP LOCKED)
+            """, nativeQuery = true)
+    int completeActiveBookingsStartedBefore(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
 
     List<Booking> findByUser_EmailAndSession_Pool_NameAndSession_StartTime(String email, String poolName, LocalDateTime startTime);
 
     long countByUser_EmailAndStatus(String email, BookingStatus status);
 
+    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.userSubscription WHERE b.id.userId = :userId AND b.id.sessionId IN :sessionIds")
+    List<Booking> findByUserIdAndSessionIds(@Param("userId") Integer userId, @Param("sessionIds") Collection<Integer> sessionIds);
+
     boolean existsByUser_EmailAndSession_Pool_NameAndSession_StartTimeAndStatus(String userEmail, String poolName, LocalDateTime startTime, BookingStatus status);
 
     List<Booking> findByUser_EmailAndSession_Pool_NameAndSession_StartTimeAndStatus(String userEmail, String poolName, LocalDateTime startTime, BookingStatus status);
 
+    /**
+     * Loads everything a booking request needs in one round trip. The single row is
+     * {@code [User, Session, Booking, UserSubscription, Boolean]}; the booking is null when the user has never
+     * booked the session and the subscription is null when the user has no usable one. Of several usable
+     * subscriptions the one expiring first is returned. The flag tells whether the user only holds subscriptions
+     * past their expiry, whether or not the sweeper has marked them EXPIRED yet.
+     */
+    @Query("""
+            SELECT u, s, b, us,
+                CASE WHEN EXISTS (
+                    SELECT 1 FROM UserSubscription expired
+                    WHERE expired.user = u
+                        AND expired.remainingBookings > 0
+                        AND expired.expiresAt <= :now
+                ) THEN true ELSE false END
+            FROM User u
+            JOIN FETCH u.role
+            JOIN Session s ON s.pool.name = :poolName AND s.startTime = :startTime
+            JOIN FETCH s.pool
+            LEFT JOIN Booking b ON b.id.userId = u.id AND b.id.sessionId = s.id
+            LEFT JOIN UserSubscription us ON us.user = u
+                AND us.remainingBookings > 0
+                AND us.expiresAt > :now
+                AND us.subscription.id IN (SELECT sub.id FROM Subscription sub WHERE sub.status = :subscriptionStatus)
+            LEFT JOIN FETCH us.subscription subscription
+            LEFT JOIN FETCH subscription.subscriptionType
+            WHERE u.email = :userEmail
+            ORDER BY us.expiresAt NULLS LAST
+            LIMIT 1
+            """)
+    List<Object[]> findBookingContextRows(@Param("userEmail") String userEmail,
+                                          @Param("poolName") String poolName,
+                                          @Param("startTime") LocalDateTime startTime,
+                                          @Param("subscriptionStatus") SubscriptionStatus subscriptionStatus,
+                                          @Param("now") LocalDateTime now);
+
 }
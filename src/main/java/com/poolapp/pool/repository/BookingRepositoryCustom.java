@@ -0,0 +1,30 @@
+package com.poolapp.pool.repository;
+
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import com.poolapp.pool.util.BookingCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookingRepositoryCustom {
+
+    /**
+     * Persists new bookings without the per-entity existence check {@code save} does for assigned ids,
+     * so Hibernate can send the inserts as one JDBC batch.
+     */
+    void persistAll(List<Booking> bookings);
+
+    /**
+     * Returns at most {@code limit} projected rows matching the specification, ordered by
+     * (session start time, session id, user id) and starting after {@code after} when given.
+     */
+    List<BookingSearchRow> search(Specification<Booking> spec, BookingCursor after, int limit);
+
+    /**
+     * Streams every projected row matching the specification in search order through a forward-only
+     * cursor. Must be consumed and closed inside a transaction.
+     */
+    Stream<BookingSearchRow> stream(Specification<Booking> spec);
+}
@@ -0,0 +1,91 @@
+package com.poolapp.pool.repository;
+
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.Session;
+import com.poolapp.pool.model.Subscription;
+import com.poolapp.pool.model.SubscriptionType;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import com.poolapp.pool.util.BookingCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${booking-export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Override
+    public void persistAll(List<Booking> bookings) {
+        bookings.forEach(entityManager::persist);
+        entityManager.flush();
+    }
+
+    @Override
+    public List<BookingSearchRow> search(Specification<Booking> spec, BookingCursor after, int limit) {
+        return entityManager.createQuery(searchQuery(spec, after)).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<BookingSearchRow> stream(Specification<Booking> spec) {
+        return entityManager.createQuery(searchQuery(spec, null))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<BookingSearchRow> searchQuery(Specification<Booking> spec, BookingCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingSearchRow> query = cb.createQuery(BookingSearchRow.class);
+        Root<Booking> root = query.from(Booking.class);
+
+        Join<Booking, Session> session = root.join("session", JoinType.INNER);
+        Join<Session, Pool> pool = session.join("pool", JoinType.INNER);
+        Join<Booking, User> user = root.join("user", JoinType.INNER);
+        Join<Booking, UserSubscription> userSubscription = root.join("userSubscription", JoinType.LEFT);
+        Join<UserSubscription, Subscription> subscription = userSubscription.join("subscription", JoinType.LEFT);
+        Join<Subscription, SubscriptionType> subscriptionType = subscription.join("subscriptionType", JoinType.LEFT);
+
+        Path<LocalDateTime> startTime = session.get("startTime");
+        Path<Integer> sessionId = root.get("id").get("sessionId");
+        Path<Integer> userId = root.get("id").get("userId");
+
+        query.select(cb.construct(BookingSearchRow.class,
+                sessionId, userId, user.get("email"), pool.get("name"), startTime, session.get("endTime"),
+                root.get("bookingTime"), root.get("status"), subscription.get("status"),
+                subscriptionType.get("name"), subscriptionType.get("maxBookingsPerMonth"), subscriptionType.get("price"),
+                subscriptionType.get("durationDays"), subscriptionType.get("description")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (after != null) {
+            predicate = cb.and(predicate, cb.or(
+                    cb.greaterThan(startTime, after.getStartTime()),
+                    cb.and(cb.equal(startTime, after.getStartTime()), cb.greaterThan(sessionId, after.getSessionId())),
+                    cb.and(cb.equal(startTime, after.getStartTime()), cb.equal(sessionId, after.getSessionId()),
+                            cb.greaterThan(userId, after.getUserId()))));
+        }
+        query.where(predicate);
+        query.orderBy(cb.asc(startTime), cb.asc(sessionId), cb.asc(userId));
+
+        return query;
+    }
+}
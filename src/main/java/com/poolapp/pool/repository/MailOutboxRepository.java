@@ -0,0 +1,59 @@
+package com.poolapp.pool.repository;
+
+import com.poolapp.pool.model.MailOutboxEntry;
+import com.poolapp.pool.model.enums.MailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntry, Long> {
+
+    /**
+     * Claims up to {@code limit} due messages by pushing their next attempt to {@code leaseUntil}. A message whose
+     * dispatcher dies before recording the outcome becomes due again once the lease runs out.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE mail_outbox SET next_attempt_at = :leaseUntil
+            WHERE id IN (
+                SELECT id FROM mail_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= :now
+                ORDER BY next_attempt_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<MailOutboxEntry> claimDue(@Param("now") LocalDateTime now,
+                                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE mail_outbox SET status = 'SENT', attempts = attempts + 1, sent_at = :sentAt, last_error = NULL
+            WHERE id = :id
+            """, nativeQuery = true)
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE MailOutboxEntry m
+            SET m.status = :status, m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error
+            WHERE m.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM mail_outbox WHERE status = 'SENT' AND sent_at < :before", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -1,8 +1,12 @@
 package com.poolapp.pool.repository;
 
 import com.poolapp.pool.model.Pool;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,6 +14,10 @@ public interface PoolRepository extends JpaRepository<Pool, Integer>, JpaSpecifi
 
     Optional<Pool> findByName(String name);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Pool p WHERE p.name = :name")
+    Optional<Pool> findByNameForUpdate(@Param("name") String name);
+
     boolean existsByName(String name);
 
     void deleteByName(String name);
@@ -0,0 +1,30 @@
+package com.poolapp.pool.repository;
+
+import com.poolapp.pool.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Removes expired tokens and tokens issued before the owner's last version bump.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM refresh_token t
+            USING users u
+            WHERE u.id = t.user_id AND (t.expires_at <= :now OR t.token_version < u.token_version)
+            """, nativeQuery = true)
+    int deleteStale(@Param("now") LocalDateTime now);
+}
@@ -1,14 +1,50 @@
 package com.poolapp.pool.repository;
 
 import com.poolapp.pool.model.Session;
+import com.poolapp.pool.repository.projection.SessionCapacity;
+import com.poolapp.pool.repository.projection.SessionSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SessionRepository extends JpaRepository<Session, Integer>, JpaSpecificationExecutor<Session> {
     Optional<Session> findByPoolNameAndStartTime(String poolName, LocalDateTime startTime);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.currentCapacity = s.currentCapacity - 1 WHERE s.id = :sessionId AND s.currentCapacity > 0")
+    int decrementCapacityIfAvailable(@Param("sessionId") Integer sessionId);
+
+    @Query("SELECT s FROM Session s JOIN FETCH s.pool p WHERE p.name IN :poolNames AND s.startTime IN :startTimes")
+    List<Session> findAllByPoolNamesAndStartTimes(@Param("poolNames") Collection<String> poolNames,
+                                                  @Param("startTimes") Collection<LocalDateTime> startTimes);
+
+    /**
+     * Takes one seat in every listed session that still has one and returns the ids that were reserved.
+     */
+    @Query(value = "UPDATE session SET current_capacity = current_capacity - 1 WHERE id IN (:sessionIds) AND current_capacity > 0 RETURNING id", nativeQuery = true)
+    List<Integer> decrementCapacitiesIfAvailable(@Param("sessionIds") Collection<Integer> sessionIds);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.currentCapacity = s.currentCapacity + 1 WHERE s.id = :sessionId")
+    int incrementCapacity(@Param("sessionId") Integer sessionId);
+
+    @Query("SELECT new com.poolapp.pool.repository.projection.SessionSlot(s.startTime, s.endTime) FROM Session s " +
+            "WHERE s.pool.id = :poolId AND s.startTime < :to AND s.endTime > :from ORDER BY s.startTime")
+    List<SessionSlot> findSlotsOverlapping(@Param("poolId") Integer poolId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.poolapp.pool.repository.projection.SessionCapacity(p.name, s.startTime, s.currentCapacity) " +
+            "FROM Session s JOIN s.pool p WHERE s.startTime >= :from AND s.startTime < :to ORDER BY s.startTime")
+    List<SessionCapacity> findCapacitiesStartingBetween(@Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
 }
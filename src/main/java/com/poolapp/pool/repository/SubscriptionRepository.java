@@ -5,11 +5,53 @@ import com.poolapp.pool.model.SubscriptionType;
 import com.poolapp.pool.model.enums.SubscriptionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface SubscriptionRepository extends JpaRepository<Subscription, Integer>, JpaSpecificationExecutor<Subscription> {
     Optional<Subscription> findBySubscriptionTypeAndStatus(SubscriptionType subscriptionType, SubscriptionStatus status);
+
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.subscriptionType t WHERE t.name = :typeName AND s.status = :status")
+    Optional<Subscription> findBySubscriptionTypeNameAndStatus(@Param("typeName") String typeName,
+                                                               @Param("status") SubscriptionStatus status);
+
+    /**
+     * Creates the EXPIRED subscription of every type that has active assignments past {@code now}, so the
+     * sweeper has a row to move them to.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO subscription (subscription_type_id, status)
+            SELECT DISTINCT s.subscription_type_id, CAST('EXPIRED' AS subscription_status)
+            FROM user_subscription us
+            JOIN subscription s ON s.id = us.subscription_id
+            WHERE s.status = 'ACTIVE' AND us.expires_at <= :now AND s.subscription_type_id IS NOT NULL
+            ON CONFLICT (subscription_type_id, status) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingExpiredSubscriptions(@Param("now") LocalDateTime now);
+
+    /**
+     * Creates the ACTIVE subscription of the type when expired assignments of it are valid again after
+     * {@code now}, so they have a row to move back to.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO subscription (subscription_type_id, status)
+            SELECT :subscriptionTypeId, CAST('ACTIVE' AS subscription_status)
+            WHERE EXISTS (
+                SELECT 1
+                FROM user_subscription us
+                JOIN subscription s ON s.id = us.subscription_id
+                WHERE s.subscription_type_id = :subscriptionTypeId AND s.status = 'EXPIRED' AND us.expires_at > :now)
+            ON CONFLICT (subscription_type_id, status) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingActiveSubscription(@Param("subscriptionTypeId") Integer subscriptionTypeId, @Param("now") LocalDateTime now);
 }
@@ -1,12 +1,19 @@
 package com.poolapp.pool.repository;
 
 import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +22,76 @@ public interface UserSubscriptionRepository extends JpaRepository<UserSubscripti
     @Override
     @EntityGraph(attributePaths = {"user", "subscription.subscriptionType"})
     Optional<UserSubscription> findOne(Specification<UserSubscription> spec);
+
+    /**
+     * Picks the unexpired subscription with bookings left that runs out first; served by the (user_id, expires_at) index.
+     */
+    @Query("SELECT us FROM UserSubscription us JOIN FETCH us.user u JOIN FETCH us.subscription s JOIN FETCH s.subscriptionType " +
+            "WHERE u.email = :email AND s.status = :status AND us.remainingBookings > 0 AND us.expiresAt > :now " +
+            "ORDER BY us.expiresAt LIMIT 1")
+    Optional<UserSubscription> findActiveForUser(@Param("email") String email,
+                                                 @Param("status") SubscriptionStatus status,
+                                                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserSubscription us SET us.remainingBookings = us.remainingBookings - :count WHERE us.id = :id AND us.remainingBookings >= :count")
+    int decrementRemainingBookingsIfAvailable(@Param("id") Integer id, @Param("count") int count);
+
+    /**
+     * Returns bookings to the subscription, never above the monthly allowance of its type.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_subscription us SET remaining_bookings = LEAST(us.remaining_bookings + :count, st.max_bookings_per_month) " +
+            "FROM subscription s JOIN subscription_type st ON st.id = s.subscription_type_id " +
+            "WHERE us.id = :id AND s.id = us.subscription_id", nativeQuery = true)
+    int incrementRemainingBookings(@Param("id") Integer id, @Param("count") int count);
+
+    /**
+     * Recomputes the expiry of every assignment of a subscription type after its duration changed.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_subscription us SET expires_at = us.assigned_at + st.duration_days * INTERVAL '1 day' " +
+            "FROM subscription s JOIN subscription_type st ON st.id = s.subscription_type_id " +
+            "WHERE s.id = us.subscription_id AND st.id = :subscriptionTypeId", nativeQuery = true)
+    int refreshExpiresAtForType(@Param("subscriptionTypeId") Integer subscriptionTypeId);
+
+    /**
+     * Moves assignments of the type that were swept to its EXPIRED subscription but are valid after {@code now}
+     * back to its ACTIVE subscription, e.g. after the duration of the type was extended.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_subscription us SET subscription_id = active.id
+            FROM subscription expired
+            JOIN subscription active ON active.subscription_type_id = expired.subscription_type_id
+                AND active.status = 'ACTIVE'
+            WHERE expired.id = us.subscription_id
+              AND expired.status = 'EXPIRED'
+              AND expired.subscription_type_id = :subscriptionTypeId
+              AND us.expires_at > :now
+            """, nativeQuery = true)
+    int reactivateSubscriptionsOfType(@Param("subscriptionTypeId") Integer subscriptionTypeId, @Param("now") LocalDateTime now);
+
+    /**
+     * Moves up to {@code chunkSize} active assignments past their expiry to the EXPIRED subscription of the same
+     * type and commits them in a transaction of their own. Rows locked by other transactions are skipped and
+     * picked up by a later chunk or run.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            UPDATE user_subscription us SET subscription_id = expired.id
+            FROM subscription active
+            JOIN subscription expired ON expired.subscription_type_id = active.subscription_type_id
+                AND expired.status = 'EXPIRED'
+            WHERE active.id = us.subscription_id
+              AND us.id IN (
+                SELECT candidate.id
+                FROM user_subscription candidate
+                JOIN subscription s ON s.id = candidate.subscription_id
+                WHERE s.status = 'ACTIVE' AND candidate.expires_at <= :now
+                LIMIT :chunkSize
+                FOR UPDATE OF candidate SKIP LOCKED)
+            """, nativeQuery = true)
+    int expireActiveSubscriptionsBefore(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
 }
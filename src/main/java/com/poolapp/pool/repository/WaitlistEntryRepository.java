@@ -0,0 +1,35 @@
+package com.poolapp.pool.repository;
+
+import com.poolapp.pool.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Integer> {
+
+    boolean existsByUserIdAndSessionId(Integer userId, Integer sessionId);
+
+    Optional<WaitlistEntry> findByUserIdAndSessionId(Integer userId, Integer sessionId);
+
+    long countBySessionId(Integer sessionId);
+
+    /**
+     * Locks the head of the session queue. Entries already locked by a concurrent promotion are skipped.
+     */
+    @Query(value = "SELECT * FROM waitlist_entry WHERE session_id = :sessionId ORDER BY created_at, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<WaitlistEntry> findNextForUpdate(@Param("sessionId") Integer sessionId);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.id = :id")
+    int deleteEntryById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.user.id = :userId AND w.session.id IN :sessionIds")
+    int deleteByUserIdAndSessionIds(@Param("userId") Integer userId, @Param("sessionIds") Collection<Integer> sessionIds);
+}
@@ -0,0 +1,31 @@
+package com.poolapp.pool.repository.projection;
+
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the columns {@code BookingDTO} is built from, plus the keyset columns.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingSearchRow {
+    private final Integer sessionId;
+    private final Integer userId;
+    private final String userEmail;
+    private final String poolName;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final LocalDateTime bookingTime;
+    private final BookingStatus status;
+    private final SubscriptionStatus subscriptionStatus;
+    private final String subscriptionTypeName;
+    private final Integer maxBookingsPerMonth;
+    private final BigDecimal price;
+    private final Integer durationDays;
+    private final String subscriptionTypeDescription;
+}
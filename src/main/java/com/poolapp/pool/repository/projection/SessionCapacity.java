@@ -0,0 +1,17 @@
+package com.poolapp.pool.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remaining seats of a session, identified by pool name and start time.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionCapacity {
+    private final String poolName;
+    private final LocalDateTime startTime;
+    private final Integer currentCapacity;
+}
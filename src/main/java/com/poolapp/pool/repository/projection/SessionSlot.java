@@ -0,0 +1,16 @@
+package com.poolapp.pool.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time range of a session, without the pool and capacity columns.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionSlot {
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+}
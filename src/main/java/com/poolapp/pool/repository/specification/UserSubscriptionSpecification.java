@@ -8,8 +8,6 @@ import com.poolapp.pool.model.enums.SubscriptionStatus;
 import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.time.LocalDateTime;
-
 public class UserSubscriptionSpecification {
 
     public static Specification<UserSubscription> hasUserEmail(String email) {
@@ -49,8 +47,4 @@ public class UserSubscriptionSpecification {
         };
     }
 
-    public static Specification<UserSubscription> isAssignedBefore(LocalDateTime time) {
-        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("assignedAt"), time);
-    }
-
 }
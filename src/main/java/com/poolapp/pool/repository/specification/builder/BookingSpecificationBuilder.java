@@ -5,6 +5,7 @@ import com.poolapp.pool.model.Pool;
 import com.poolapp.pool.model.Session;
 import com.poolapp.pool.model.User;
 import com.poolapp.pool.model.UserSubscription;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -23,10 +24,10 @@ public class BookingSpecificationBuilder {
 
     public Specification<Booking> buildSpecification(Booking filter, String userEmail) {
         return (root, query, cb) -> {
-            Join<Booking, Session> sessionJoin = root.join("session", JoinType.INNER);
-            Join<Session, Pool> poolJoin = sessionJoin.join("pool", JoinType.INNER);
-            Join<Booking, User> bookingUserJoin = root.join("user", JoinType.INNER);
-            Join<Booking, UserSubscription> usJoin = root.join("userSubscription", JoinType.LEFT);
+            Join<Booking, Session> sessionJoin = join(root, "session", JoinType.INNER);
+            Join<Session, Pool> poolJoin = join(sessionJoin, "pool", JoinType.INNER);
+            Join<Booking, User> bookingUserJoin = join(root, "user", JoinType.INNER);
+            Join<Booking, UserSubscription> usJoin = join(root, "userSubscription", JoinType.LEFT);
 
             Predicate predicate = cb.conjunction();
 
@@ -71,4 +72,15 @@ public class BookingSpecificationBuilder {
             return predicate;
         };
     }
+
+    /**
+     * Reuses a join the caller's query already declared, e.g. for a projection, instead of joining twice.
+     */
+    @SuppressWarnings("unchecked")
+    private <X, Y> Join<X, Y> join(From<?, X> from, String attribute, JoinType joinType) {
+        return (Join<X, Y>) from.getJoins().stream()
+                .filter(existing -> existing.getAttribute().getName().equals(attribute) && existing.getJoinType() == joinType)
+                .findFirst()
+                .orElseGet(() -> from.join(attribute, joinType));
+    }
 }
@@ -0,0 +1,59 @@
+package com.poolapp.pool.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.util.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Keeps recently loaded users in memory in front of {@link CustomUserDetailsService}. Entries are dropped once the
+ * transaction that changed the user commits; unknown users are not cached.
+ */
+@Service
+@Primary
+public class CachedUserDetailsService implements UserDetailsService {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final CustomUserDetailsService delegate;
+    private final Cache<String, UserDetails> usersByEmail;
+
+    public CachedUserDetailsService(CustomUserDetailsService delegate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${user-details-cache.ttl:PT5M}") Duration ttl,
+                                    @Value("${user-details-cache.max-entries:10000}") long maxEntries) {
+        this.delegate = delegate;
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", usersByEmail, cache -> cache.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Share of user lookups served from memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return usersByEmail.get(email, delegate::loadUserByUsername);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        usersByEmail.invalidate(event.email());
+    }
+}
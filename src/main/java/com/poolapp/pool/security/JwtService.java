@@ -1,12 +1,17 @@
 package com.poolapp.pool.security;
 
 import com.poolapp.pool.exception.InvalidTokenException;
+import com.poolapp.pool.model.Role;
 import com.poolapp.pool.model.User;
-import com.poolapp.pool.security.request.RefreshTokenRequest;
+import com.poolapp.pool.model.enums.RoleType;
 import com.poolapp.pool.util.JwtProperties;
 import com.poolapp.pool.util.exception.ErrorMessages;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -14,92 +19,194 @@ import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
 
-    private final UserDetailsService userDetailsService;
+    private static final String ID_CLAIM = "id";
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String REFRESH_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenStore refreshTokenStore;
+    private final Clock clock;
     private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
         String key = jwtProperties.getSigningKey();
         byte[] keyBytes = Decoders.BASE64.decode(key);
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).setClock(this::now).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getClaimsCacheMaxEntries())
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
     }
 
     public String generateAccessToken(UserDetails userDetails) {
         return generateToken(userDetails, jwtProperties.getAccessTokenExpirationMs());
     }
 
+    /**
+     * Issues a single-use refresh token and records it in the {@link RefreshTokenStore}.
+     */
     public String generateRefreshToken(UserDetails userDetails) {
-        return generateToken(userDetails, jwtProperties.getRefreshTokenExpirationMs());
+        if (!(userDetails instanceof UserDetailsImpl details) || details.getUser().getId() == null) {
+            throw new IllegalArgumentException("Refresh tokens need a persisted user");
+        }
+        User user = details.getUser();
+        String tokenId = UUID.randomUUID().toString();
+        Date expiresAt = new Date(clock.millis() + jwtProperties.getRefreshTokenExpirationMs());
+        refreshTokenStore.store(tokenId, user.getId(), user.getTokenVersion(), LocalDateTime.ofInstant(expiresAt.toInstant(), clock.getZone()));
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        claims.put(ID_CLAIM, user.getId());
+        claims.put(VERSION_CLAIM, user.getTokenVersion());
+        return Jwts.builder().setClaims(claims).setId(tokenId).setSubject(user.getEmail()).setIssuedAt(now()).setExpiration(expiresAt).signWith(signingKey, SignatureAlgorithm.HS256).compact();
     }
 
     private String generateToken(UserDetails userDetails, long expirationMs) {
         Map<String, Object> claims = new HashMap<>();
-        if (userDetails instanceof User user) {
-            claims.put("id", user.getId());
-            claims.put("role", user.getRole().getName().name());
+        if (userDetails instanceof UserDetailsImpl details && details.getUser().getId() != null && details.getUser().getRole() != null) {
+            User user = details.getUser();
+            claims.put(ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().getName().name());
+            claims.put(VERSION_CLAIM, user.getTokenVersion());
         }
-        return Jwts.builder().setClaims(claims).setSubject(userDetails.getUsername()).setIssuedAt(new Date()).setExpiration(new Date(System.currentTimeMillis() + expirationMs)).signWith(signingKey, SignatureAlgorithm.HS256).compact();
+        return Jwts.builder().setClaims(claims).setSubject(userDetails.getUsername()).setIssuedAt(now()).setExpiration(new Date(clock.millis() + expirationMs)).signWith(signingKey, SignatureAlgorithm.HS256).compact();
     }
 
-    public JwtAuthenticationResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-
+    /**
+     * Verifies a refresh token; expired, forged and access tokens are all reported as {@link InvalidTokenException}.
+     */
+    public Claims parseRefreshToken(String token) {
+        Claims claims;
         try {
-            String username = extractUserName(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (!isTokenValid(refreshToken, userDetails)) {
-                throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
-            }
+            claims = parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
+        }
+        if (!isRefreshToken(claims) || claims.getId() == null) {
+            throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
+        }
+        return claims;
+    }
 
-            String newAccessToken = generateAccessToken(userDetails);
-            long expiresAt = System.currentTimeMillis() + jwtProperties.getAccessTokenExpirationMs();
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+    }
 
-            return JwtAuthenticationResponse.builder()
-                    .accessToken(newAccessToken)
-                    .refreshToken(refreshToken)
-                    .build();
-        } catch (ExpiredJwtException e) {
-            throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        if (!claims.getSubject().equals(userDetails.getUsername()) || !claims.getExpiration().after(now())) {
+            return false;
+        }
+        int tokenVersion = tokenVersion(claims);
+        Integer userId = claims.get(ID_CLAIM, Integer.class);
+        if (userId != null && tokenRevocationList.isRevoked(userId, tokenVersion)) {
+            return false;
         }
+        return !(userDetails instanceof UserDetailsImpl details) || details.getUser().getTokenVersion() == tokenVersion;
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractClaim(token, Claims::getSubject);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    /**
+     * In claims-only mode, builds the principal from the signed id, role and version claims without loading the user.
+     * Returns empty when the mode is off or the token predates these claims, so the caller falls back to the lookup.
+     */
+    public Optional<UserDetails> userDetailsFromClaims(Claims claims) {
+        Integer userId = claims.get(ID_CLAIM, Integer.class);
+        String roleName = claims.get(ROLE_CLAIM, String.class);
+        if (!jwtProperties.isClaimsOnlyAuth() || userId == null || roleName == null || !claims.containsKey(VERSION_CLAIM)) {
+            return Optional.empty();
+        }
+        Role role = new Role();
+        role.setName(RoleType.valueOf(roleName));
+
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(claims.getSubject());
+        user.setRole(role);
+        user.setTokenVersion(tokenVersion(claims));
+        return Optional.of(new UserDetailsImpl(user));
     }
 
     public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseClaims(token).getSubject();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the token's signature and expiry and returns its claims. Verified claims are kept per token hash
+     * until the token expires, so repeated calls with the same token skip the HMAC check and JSON parsing.
+     */
+    public Claims parseClaims(String token) {
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.getExpiration().after(now())) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, claims);
+        }
+        return claims;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Date now() {
+        return Date.from(clock.instant());
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        return resolver.apply(parseToken(token));
+    private int tokenVersion(Claims claims) {
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+        return version == null ? 0 : version;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
-    private Claims parseToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token).getBody();
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime()) - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.poolapp.pool.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.model.RefreshToken;
+import com.poolapp.pool.repository.RefreshTokenRepository;
+import com.poolapp.pool.util.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Outstanding refresh tokens, keyed by the SHA-256 of their token id. Each token can be consumed once; recently
+ * consumed ids are remembered in memory so replays are refused without touching the table.
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<String, Boolean> consumedTokenHashes;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, JwtProperties jwtProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.consumedTokenHashes = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRevocationListMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(jwtProperties.getRefreshTokenExpirationMs()))
+                .build();
+    }
+
+    public void store(String tokenId, Integer userId, int tokenVersion, LocalDateTime expiresAt) {
+        refreshTokenRepository.save(new RefreshToken(hash(tokenId), userId, tokenVersion, expiresAt));
+    }
+
+    /**
+     * Removes the token and returns whether it was still outstanding.
+     */
+    public boolean consume(String tokenId) {
+        String tokenHash = hash(tokenId);
+        if (consumedTokenHashes.getIfPresent(tokenHash) != null) {
+            return false;
+        }
+        boolean consumed = refreshTokenRepository.deleteByTokenHash(tokenHash) > 0;
+        consumedTokenHashes.put(tokenHash, Boolean.TRUE);
+        return consumed;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+    public void purgeStaleTokens() {
+        int deleted = refreshTokenRepository.deleteStale(LocalDateTime.now());
+        log.debug("Purged {} stale refresh tokens", deleted);
+    }
+
+    private String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.poolapp.pool.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.util.JwtProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Lowest token version still accepted per user, for users whose tokens were revoked recently. Entries only have to
+ * outlive the access tokens they reject, so they expire after one access-token lifetime.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Cache<Integer, Integer> minimumVersionByUserId;
+
+    public TokenRevocationList(JwtProperties jwtProperties) {
+        this.minimumVersionByUserId = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRevocationListMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(jwtProperties.getAccessTokenExpirationMs()))
+                .build();
+    }
+
+    /**
+     * Rejects the user's tokens older than {@code minimumVersion}; inside a transaction this takes effect on commit.
+     */
+    public void revokeBefore(Integer userId, int minimumVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            minimumVersionByUserId.asMap().merge(userId, minimumVersion, Math::max);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                minimumVersionByUserId.asMap().merge(userId, minimumVersion, Math::max);
+            }
+        });
+    }
+
+    public boolean isRevoked(Integer userId, int tokenVersion) {
+        Integer minimumVersion = minimumVersionByUserId.getIfPresent(userId);
+        return minimumVersion != null && tokenVersion < minimumVersion;
+    }
+}
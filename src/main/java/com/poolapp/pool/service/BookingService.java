@@ -1,9 +1,13 @@
 package com.poolapp.pool.service;
 
+import com.poolapp.pool.dto.BatchBookingResultDTO;
 import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.BookingPageDTO;
 import com.poolapp.pool.dto.SessionDTO;
 import com.poolapp.pool.dto.requestDTO.RequestBookingDTO;
+import com.poolapp.pool.util.BookingExportFormat;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,17 +15,21 @@ public interface BookingService {
 
     BookingDTO createBooking(BookingDTO bookingDTO);
 
+    List<BatchBookingResultDTO> createBookings(String userEmail, List<SessionDTO> sessionDTOs);
+
     BookingDTO updateBooking(BookingDTO bookingDTO, BookingDTO newBookingDTO);
 
     boolean hasUserBookedForSession(String userEmail, String poolName, LocalDateTime startTime);
 
-    void expirePastBookings(LocalDateTime now);
+    int expirePastBookings(LocalDateTime now, int chunkSize);
 
     void cancelBooking(BookingDTO bookingDTO);
 
     void deleteBooking(BookingDTO bookingDTO);
 
-    List<BookingDTO> findBookingsByFilter(RequestBookingDTO requestBookingDTO);
+    BookingPageDTO findBookingsByFilter(RequestBookingDTO requestBookingDTO, String cursor, int limit);
+
+    void exportBookingsByFilter(RequestBookingDTO requestBookingDTO, BookingExportFormat format, OutputStream out);
 
     void deleteBookingsBySession(SessionDTO sessionDTO);
 
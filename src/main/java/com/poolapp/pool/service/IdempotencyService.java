@@ -0,0 +1,14 @@
+package com.poolapp.pool.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs the action once per scope and key; later calls with the same key replay the stored response,
+     * concurrent ones wait for the first call to finish.
+     */
+    <T> T execute(String scope, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action);
+
+    void purgeExpiredRecords();
+}
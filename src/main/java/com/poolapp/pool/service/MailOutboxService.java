@@ -0,0 +1,12 @@
+package com.poolapp.pool.service;
+
+import com.poolapp.pool.dto.SessionDTO;
+
+public interface MailOutboxService {
+
+    void enqueueBookingConfirmation(String toEmail, SessionDTO sessionDTO);
+
+    int dispatchPending();
+
+    void purgeSentMessages();
+}
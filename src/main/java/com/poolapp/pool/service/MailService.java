@@ -1,8 +1,10 @@
 package com.poolapp.pool.service;
 
 import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.model.MailOutboxEntry;
 
 public interface MailService {
     void sendBookingConfirmationEmail(String toEmail, SessionDTO sessionDTO);
-}
 
+    void deliver(MailOutboxEntry entry);
+}
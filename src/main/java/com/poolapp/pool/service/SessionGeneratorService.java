@@ -0,0 +1,8 @@
+package com.poolapp.pool.service;
+
+import com.poolapp.pool.dto.requestDTO.SessionGenerationRequest;
+
+public interface SessionGeneratorService {
+
+    int generateSessions(SessionGenerationRequest request);
+}
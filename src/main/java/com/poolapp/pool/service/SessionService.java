@@ -6,8 +6,10 @@ import com.poolapp.pool.model.Session;
 import com.poolapp.pool.util.ChangeSessionCapacityRequest;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SessionService {
 
@@ -15,8 +17,18 @@ public interface SessionService {
 
     void changeSessionCapacity(ChangeSessionCapacityRequest request);
 
+    boolean reserveSeat(Integer sessionId);
+
+    Set<Integer> reserveSeats(Collection<Integer> sessionIds);
+
+    void releaseSeat(Integer sessionId);
+
     List<SessionDTO> findSessionsByFilter(RequestSessionDTO sessionDTO);
 
+    int getRemainingSeats(String poolName, LocalDateTime startTime);
+
+    boolean isKnownSoldOut(String poolName, LocalDateTime startTime);
+
     boolean validateSessionHasAvailableSpots(SessionDTO sessionDTO);
 
     Optional<Session> getSessionByPoolNameAndStartTime(String poolName, LocalDateTime startTime);
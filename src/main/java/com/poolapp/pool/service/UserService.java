@@ -16,5 +16,7 @@ public interface UserService {
 
     UserDTO createUser(UserDTO dto);
 
+    void revokeTokens(String email);
+
 }
 
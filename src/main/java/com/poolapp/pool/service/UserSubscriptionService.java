@@ -23,8 +23,12 @@ public interface UserSubscriptionService {
 
     void incrementRemainingBookings(Integer subscriptionId);
 
-    void decrementRemainingBookings(Integer subscriptionId);
+    boolean decrementRemainingBookings(Integer subscriptionId);
+
+    boolean claimRemainingBookings(Integer subscriptionId, int count);
 
     Optional<UserSubscription> findActiveSubscriptionForUser(String userEmail);
+
+    int expireSubscriptions(LocalDateTime now, int chunkSize);
 }
 
@@ -0,0 +1,20 @@
+package com.poolapp.pool.service;
+
+import com.poolapp.pool.dto.WaitlistEntryDTO;
+import com.poolapp.pool.model.WaitlistEntry;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface WaitlistService {
+
+    WaitlistEntryDTO joinWaitlist(WaitlistEntryDTO waitlistEntryDTO);
+
+    void leaveWaitlist(WaitlistEntryDTO waitlistEntryDTO);
+
+    Optional<WaitlistEntry> findNextForPromotion(Integer sessionId);
+
+    void removeEntry(WaitlistEntry entry);
+
+    void removeUserFromWaitlists(Integer userId, Collection<Integer> sessionIds);
+}
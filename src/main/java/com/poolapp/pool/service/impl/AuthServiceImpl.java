@@ -2,32 +2,39 @@ package com.poolapp.pool.service.impl;
 
 import com.poolapp.pool.dto.UserDTO;
 import com.poolapp.pool.exception.EntityAlreadyExistsException;
+import com.poolapp.pool.exception.InvalidTokenException;
 import com.poolapp.pool.exception.ModelNotFoundException;
-import com.poolapp.pool.mapper.UserMapper;
 import com.poolapp.pool.model.User;
 import com.poolapp.pool.model.enums.RoleType;
 import com.poolapp.pool.repository.UserRepository;
 import com.poolapp.pool.security.JwtAuthenticationResponse;
 import com.poolapp.pool.security.JwtService;
+import com.poolapp.pool.security.RefreshTokenStore;
 import com.poolapp.pool.security.UserDetailsImpl;
+import com.poolapp.pool.security.request.RefreshTokenRequest;
 import com.poolapp.pool.security.request.UserLoginRequest;
 import com.poolapp.pool.service.AuthService;
 import com.poolapp.pool.service.UserService;
+import com.poolapp.pool.util.SecurityUtil;
 import com.poolapp.pool.util.exception.ApiErrorCode;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public JwtAuthenticationResponse register(UserDTO userDTO) {
@@ -40,16 +47,10 @@ public class AuthServiceImpl implements AuthService {
         }
 
         userDTO.setRoleType(RoleType.USER);
-        User user = userMapper.toEntity(userService.createUser(userDTO));
-        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        userService.createUser(userDTO);
+        User user = userRepository.findByEmail(userDTO.getEmail()).orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, userDTO.getEmail()));
 
-        String accessToken = jwtService.generateAccessToken(userDetails);
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
-
-        return JwtAuthenticationResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        return issueTokens(new UserDetailsImpl(user));
     }
 
     @Override
@@ -59,8 +60,36 @@ public class AuthServiceImpl implements AuthService {
 
         User user = userRepository.findByEmail(request.getEmail()).orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, request.getEmail()));
 
+        return issueTokens(new UserDetailsImpl(user));
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair. A token that was already exchanged means it leaked, so every
+     * token of that user is revoked.
+     */
+    @Override
+    public JwtAuthenticationResponse refreshToken(RefreshTokenRequest request) {
+        Claims claims = jwtService.parseRefreshToken(request.getRefreshToken());
+        User user = userRepository.findByEmail(claims.getSubject()).orElseThrow(() -> new InvalidTokenException(ErrorMessages.REFRESH_TOKEN));
         UserDetailsImpl userDetails = new UserDetailsImpl(user);
 
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
+        }
+        if (!refreshTokenStore.consume(claims.getId())) {
+            log.warn("Refresh token reuse detected for user id={}, revoking all tokens", user.getId());
+            userService.revokeTokens(user.getEmail());
+            throw new InvalidTokenException(ErrorMessages.REFRESH_TOKEN);
+        }
+        return issueTokens(userDetails);
+    }
+
+    @Override
+    public void logoutEverywhere() {
+        userService.revokeTokens(SecurityUtil.getCurrentUser().getEmail());
+    }
+
+    private JwtAuthenticationResponse issueTokens(UserDetailsImpl userDetails) {
         String accessToken = jwtService.generateAccessToken(userDetails);
         String refreshToken = jwtService.generateRefreshToken(userDetails);
 
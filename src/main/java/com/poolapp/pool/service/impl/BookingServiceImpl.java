@@ -1,27 +1,35 @@
 package com.poolapp.pool.service.impl;
 
+import com.poolapp.pool.dto.BatchBookingResultDTO;
 import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.BookingPageDTO;
 import com.poolapp.pool.dto.SessionDTO;
 import com.poolapp.pool.dto.requestDTO.RequestBookingDTO;
 import com.poolapp.pool.exception.BookingStatusNotActiveException;
 import com.poolapp.pool.exception.ModelNotFoundException;
+import com.poolapp.pool.exception.NoFreePlacesException;
+import com.poolapp.pool.exception.NoRemainingBookingsException;
 import com.poolapp.pool.mapper.BookingMapper;
-import com.poolapp.pool.mapper.SessionMapper;
 import com.poolapp.pool.model.Booking;
 import com.poolapp.pool.model.Session;
 import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.WaitlistEntry;
 import com.poolapp.pool.model.enums.BookingStatus;
 import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
 import com.poolapp.pool.repository.specification.builder.BookingSpecificationBuilder;
 import com.poolapp.pool.service.BookingService;
 import com.poolapp.pool.service.SessionService;
 import com.poolapp.pool.service.UserSubscriptionService;
-import com.poolapp.pool.service.impl.validation.CreateBookingValidator;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.service.impl.validation.CreateBookingValidationPipeline;
 import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.BookingCursor;
 import com.poolapp.pool.util.BookingContextBuilder;
 import com.poolapp.pool.util.BookingCreatedEvent;
-import com.poolapp.pool.util.CapacityOperation;
-import com.poolapp.pool.util.ChangeSessionCapacityRequest;
+import com.poolapp.pool.util.BookingExportFormat;
+import com.poolapp.pool.util.BookingExportWriter;
+import com.poolapp.pool.util.ServiceMetrics;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import com.poolapp.pool.util.exception.ErrorMessages;
 import lombok.RequiredArgsConstructor;
@@ -30,16 +38,24 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookingServiceImpl implements BookingService {
 
+    private static final String METRIC_NAME = "booking.operations";
+
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final SessionService sessionService;
@@ -47,47 +63,152 @@ public class BookingServiceImpl implements BookingService {
     private final UserSubscriptionService userSubscriptionService;
     private final ApplicationEventPublisher eventPublisher;
     private final BookingContextBuilder bookingContextBuilder;
-    private final SessionMapper sessionMapper;
-    private final List<CreateBookingValidator> createBookingValidators;
-
-    @Transactional
+    private final CreateBookingValidationPipeline createBookingValidationPipeline;
+    private final WaitlistService waitlistService;
+    private final BookingExportWriter bookingExportWriter;
+    private final ServiceMetrics serviceMetrics;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * The public booking operations time the whole transaction, including the flush and commit where inserts,
+     * lock waits and constraint failures happen.
+     */
     @Override
     public BookingDTO createBooking(BookingDTO bookingDTO) {
+        return serviceMetrics.record(METRIC_NAME, "create", () -> transactionTemplate.execute(status -> placeBooking(bookingDTO)));
+    }
+
+    @Override
+    public List<BatchBookingResultDTO> createBookings(String userEmail, List<SessionDTO> sessionDTOs) {
+        return serviceMetrics.record(METRIC_NAME, "create_batch", () -> transactionTemplate.execute(status -> placeBookings(userEmail, sessionDTOs)));
+    }
+
+    @Override
+    public void deleteBooking(BookingDTO bookingDTO) {
+        serviceMetrics.record(METRIC_NAME, "delete", () -> transactionTemplate.executeWithoutResult(status -> removeBooking(bookingDTO)));
+    }
+
+    @Override
+    public void cancelBooking(BookingDTO bookingDTO) {
+        serviceMetrics.record(METRIC_NAME, "cancel", () -> transactionTemplate.executeWithoutResult(status -> cancelActiveBooking(bookingDTO)));
+    }
+
+    private BookingDTO placeBooking(BookingDTO bookingDTO) {
         log.debug("Creating booking request for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
 
-        Optional<Booking> cancelledBooking = findCancelledBookingForSession(bookingDTO);
+        if (sessionService.isKnownSoldOut(bookingDTO.getSessionDTO().getPoolName(), bookingDTO.getSessionDTO().getStartTime())) {
+            log.debug("Rejected booking for sold out session: {}", bookingDTO.getSessionDTO());
+            throw new NoFreePlacesException(ErrorMessages.NO_FREE_PLACES);
+        }
+
+        BookingContext context = bookingContextBuilder.build(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
+        Optional<Booking> cancelledBooking = context.getExistingBooking()
+                .filter(existing -> existing.getStatus() == BookingStatus.CANCELLED);
 
         if (cancelledBooking.isPresent()) {
-            return reactivateCancelledBooking(cancelledBooking.get(), bookingDTO);
+            return reactivateCancelledBooking(cancelledBooking.get(), bookingDTO, context);
         }
 
-        createBookingValidators.forEach(validator -> validator.validate(bookingDTO));
+        createBookingValidationPipeline.validate(bookingDTO, context);
 
-        Booking booking = createAndPersistBooking(bookingDTO);
+        Booking booking = buildBooking(context);
         updateRelatedEntities(booking);
+        Booking saved = bookingRepository.save(booking);
+        leaveWaitlist(context);
         publishBookingEvent(bookingDTO);
 
         log.info("New booking created successfully for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
-        return bookingMapper.toDto(booking);
+        return bookingMapper.toDto(saved);
     }
 
-    @Transactional
-    @Override
-    public void deleteBooking(BookingDTO bookingDTO) {
+    private List<BatchBookingResultDTO> placeBookings(String userEmail, List<SessionDTO> sessionDTOs) {
+        log.debug("Creating {} bookings for user: {}", sessionDTOs.size(), userEmail);
+
+        List<Optional<BookingContext>> contexts = bookingContextBuilder.build(userEmail, sessionDTOs);
+        BatchBookingResultDTO[] results = new BatchBookingResultDTO[sessionDTOs.size()];
+        List<Integer> candidates = new ArrayList<>();
+        Set<Integer> requestedSessionIds = new HashSet<>();
+
+        for (int i = 0; i < sessionDTOs.size(); i++) {
+            SessionDTO sessionDTO = sessionDTOs.get(i);
+            Optional<BookingContext> context = contexts.get(i);
+            if (context.isEmpty()) {
+                results[i] = BatchBookingResultDTO.failed(sessionDTO, "Session not found: " + buildSessionNotFoundErrorDetails(sessionDTO.getPoolName(), sessionDTO.getStartTime()));
+            } else if (!requestedSessionIds.add(context.get().getSession().getId())) {
+                results[i] = BatchBookingResultDTO.failed(sessionDTO, "Session is listed more than once in the request");
+            } else {
+                try {
+                    BookingDTO bookingDTO = BookingDTO.builder().userEmail(userEmail).sessionDTO(sessionDTO).build();
+                    createBookingValidationPipeline.validate(bookingDTO, context.get());
+                    candidates.add(i);
+                } catch (RuntimeException e) {
+                    results[i] = BatchBookingResultDTO.failed(sessionDTO, e.getMessage());
+                }
+            }
+        }
+
+        Set<Integer> reserved = sessionService.reserveSeats(candidates.stream()
+                .map(i -> contexts.get(i).get().getSession().getId())
+                .toList());
+
+        List<Integer> bookedIndexes = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>();
+        List<Booking> newBookings = new ArrayList<>();
+        for (Integer i : candidates) {
+            BookingContext context = contexts.get(i).get();
+            if (!reserved.contains(context.getSession().getId())) {
+                results[i] = BatchBookingResultDTO.failed(sessionDTOs.get(i), ErrorMessages.NO_FREE_PLACES);
+                continue;
+            }
+            Optional<Booking> cancelled = context.getExistingBooking();
+            Booking booking = cancelled.orElseGet(() -> newBooking(context));
+            if (cancelled.isPresent()) {
+                booking.setStatus(BookingStatus.ACTIVE);
+                booking.setBookingTime(LocalDateTime.now());
+            } else {
+                newBookings.add(booking);
+            }
+            bookedIndexes.add(i);
+            bookings.add(booking);
+        }
+
+        linkClaimedSubscription(bookings, contexts.stream().flatMap(Optional::stream).findFirst());
+        bookingRepository.persistAll(newBookings);
+        if (!bookings.isEmpty()) {
+            waitlistService.removeUserFromWaitlists(bookings.get(0).getUser().getId(),
+                    bookings.stream().map(booking -> booking.getSession().getId()).toList());
+        }
+
+        for (int j = 0; j < bookedIndexes.size(); j++) {
+            int i = bookedIndexes.get(j);
+            BookingDTO booked = bookingMapper.toDto(bookings.get(j));
+            results[i] = BatchBookingResultDTO.booked(sessionDTOs.get(i), booked);
+            publishBookingEvent(booked);
+        }
+
+        log.info("Batch booking for user: {} booked {} of {} sessions", userEmail, bookings.size(), sessionDTOs.size());
+        return List.of(results);
+    }
+
+    private void removeBooking(BookingDTO bookingDTO) {
         log.debug("Deleting booking for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
 
         Booking booking = findBookingOrThrow(bookingDTO);
-        handleSubscriptionOnDeletion(booking);
+        // only an active booking still holds a seat and an unreturned subscription booking
+        boolean active = booking.getStatus() == BookingStatus.ACTIVE;
+        if (active) {
+            handleSubscriptionOnDeletion(booking);
+        }
 
         bookingRepository.deleteById(booking.getId());
-        changeSessionCapacity(bookingDTO.getSessionDTO(), CapacityOperation.INCREASE);
+        if (active) {
+            releaseSeat(booking.getSession());
+        }
 
         log.info("Booking deleted successfully for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
     }
 
-    @Transactional
-    @Override
-    public void cancelBooking(BookingDTO bookingDTO) {
+    private void cancelActiveBooking(BookingDTO bookingDTO) {
         log.debug("Cancelling booking for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
 
         Booking booking = findBookingOrThrow(bookingDTO);
@@ -97,22 +218,41 @@ public class BookingServiceImpl implements BookingService {
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
 
-        changeSessionCapacity(bookingDTO.getSessionDTO(), CapacityOperation.INCREASE);
+        releaseSeat(booking.getSession());
 
         log.info("Booking cancelled successfully for user: {}, session: {}", bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
     }
 
     @Override
-    public List<BookingDTO> findBookingsByFilter(RequestBookingDTO filterDTO) {
-        log.debug("Finding bookings by filter: {}", filterDTO);
+    public BookingPageDTO findBookingsByFilter(RequestBookingDTO filterDTO, String cursor, int limit) {
+        log.debug("Finding bookings by filter: {}, cursor={}, limit={}", filterDTO, cursor, limit);
 
         Booking filter = bookingMapper.toEntity(filterDTO);
-        log.debug("Finding bookings by filter: {}", filter);
+        BookingCursor after = cursor == null ? null : BookingCursor.decode(cursor);
 
         Specification<Booking> spec = bookingSpecificationBuilder.buildSpecification(filter, filterDTO.getUserEmail());
-        List<Booking> bookings = bookingRepository.findAll(spec);
-        log.debug("Found {} bookings with given filter", bookings.size());
-        return bookingMapper.toDtoList(bookings);
+        List<BookingSearchRow> rows = bookingRepository.search(spec, after, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<BookingSearchRow> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? BookingCursor.after(page.get(page.size() - 1)).encode() : null;
+
+        log.debug("Found {} bookings with given filter, hasMore={}", page.size(), hasMore);
+        return new BookingPageDTO(bookingMapper.toDtoListFromRows(page), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookingsByFilter(RequestBookingDTO filterDTO, BookingExportFormat format, OutputStream out) {
+        log.debug("Exporting bookings by filter: {}, format={}", filterDTO, format);
+
+        Booking filter = bookingMapper.toEntity(filterDTO);
+        Specification<Booking> spec = bookingSpecificationBuilder.buildSpecification(filter, filterDTO.getUserEmail());
+
+        try (Stream<BookingSearchRow> rows = bookingRepository.stream(spec)) {
+            long exported = bookingExportWriter.write(rows, format, out);
+            log.info("Exported {} bookings as {}", exported, format);
+        }
     }
 
     @Override
@@ -135,14 +275,19 @@ public class BookingServiceImpl implements BookingService {
         return exists;
     }
 
-    @Transactional
     @Override
-    public void expirePastBookings(LocalDateTime now) {
-        log.debug("Expiring past bookings before: {}", now);
-        List<Booking> expired = bookingRepository.findBySession_StartTimeBeforeAndStatus(now, BookingStatus.ACTIVE);
-        expired.forEach(b -> b.setStatus(BookingStatus.COMPLETED));
-        bookingRepository.saveAll(expired);
-        log.info("Expired {} bookings", expired.size());
+    public int expirePastBookings(LocalDateTime now, int chunkSize) {
+        log.debug("Expiring past bookings before: {}, chunkSize={}", now, chunkSize);
+        int total = 0;
+        int chunks = 0;
+        int updated;
+        do {
+            updated = bookingRepository.completeActiveBookingsStartedBefore(now, chunkSize);
+            total += updated;
+            chunks++;
+        } while (updated == chunkSize);
+        log.debug("Expired {} bookings in {} chunks", total, chunks);
+        return total;
     }
 
     @Override
@@ -162,17 +307,19 @@ public class BookingServiceImpl implements BookingService {
         return count;
     }
 
-    private BookingDTO reactivateCancelledBooking(Booking existingBooking, BookingDTO bookingDTO) {
+    private BookingDTO reactivateCancelledBooking(Booking existingBooking, BookingDTO bookingDTO, BookingContext context) {
         log.info("Reactivating CANCELLED booking id={} for user={}, session={}", existingBooking.getId(), bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
 
-        createBookingValidators.forEach(validator -> validator.validate(bookingDTO));
+        createBookingValidationPipeline.validate(bookingDTO, context);
 
         existingBooking.setStatus(BookingStatus.ACTIVE);
         existingBooking.setBookingTime(LocalDateTime.now());
+        linkActiveSubscription(existingBooking, context);
 
         updateRelatedEntities(existingBooking);
 
         Booking updated = bookingRepository.save(existingBooking);
+        leaveWaitlist(context);
         publishBookingEvent(bookingMapper.toDto(updated));
 
         return bookingMapper.toDto(updated);
@@ -181,7 +328,7 @@ public class BookingServiceImpl implements BookingService {
     private Booking findBookingOrThrow(BookingDTO bookingDTO) {
         BookingContext context = bookingContextBuilder.build(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
 
-        return bookingRepository.findById(context.getBookingId()).orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, buildNotFoundErrorDetails(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO().getStartTime())));
+        return context.getExistingBooking().orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, buildNotFoundErrorDetails(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO().getStartTime())));
     }
 
     private Session getExistingSession(SessionDTO sessionDTO) {
@@ -196,46 +343,131 @@ public class BookingServiceImpl implements BookingService {
         return new StringBuilder("pool=").append(poolName).append(", startTime=").append(startTime).toString();
     }
 
-    private void changeSessionCapacity(SessionDTO sessionDTO, CapacityOperation operation) {
-        ChangeSessionCapacityRequest request = new ChangeSessionCapacityRequest();
-        request.setSessionDTO(sessionDTO);
-        request.setOperation(operation);
-        sessionService.changeSessionCapacity(request);
-    }
+    private Booking buildBooking(BookingContext context) {
+        Booking booking = newBooking(context);
+        linkActiveSubscription(booking, context);
 
-    private Booking createAndPersistBooking(BookingDTO bookingDTO) {
-        BookingContext context = bookingContextBuilder.build(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO());
+        return booking;
+    }
 
+    private Booking newBooking(BookingContext context) {
         Booking booking = new Booking();
         booking.setId(context.getBookingId());
         booking.setUser(context.getUser());
         booking.setSession(context.getSession());
         booking.setBookingTime(LocalDateTime.now());
         booking.setStatus(BookingStatus.ACTIVE);
+        return booking;
+    }
+
+    private void linkClaimedSubscription(List<Booking> bookings, Optional<BookingContext> context) {
+        bookings.forEach(booking -> booking.setUserSubscription(null));
 
-        Optional<UserSubscription> activeSubscription = userSubscriptionService.findActiveSubscriptionForUser(bookingDTO.getUserEmail());
+        Optional<UserSubscription> activeSubscription = context.flatMap(BookingContext::getActiveSubscription);
+        if (bookings.isEmpty() || activeSubscription.isEmpty()) {
+            return;
+        }
+
+        UserSubscription subscription = activeSubscription.get();
+        int claim = Math.min(bookings.size(), subscription.getRemainingBookings());
+        if (claim > 0 && userSubscriptionService.claimRemainingBookings(subscription.getId(), claim)) {
+            bookings.subList(0, claim).forEach(booking -> booking.setUserSubscription(subscription));
+            log.debug("Linked {} bookings to subscription id={}", claim, subscription.getId());
+        }
+    }
+
+    private void linkActiveSubscription(Booking booking, BookingContext context) {
+        Optional<UserSubscription> activeSubscription = context.getActiveSubscription();
 
         if (activeSubscription.isPresent()) {
             booking.setUserSubscription(activeSubscription.get());
             log.debug("Booking linked to subscription id={}", activeSubscription.get().getId());
         } else {
+            booking.setUserSubscription(null);
             log.debug("Booking created without subscription");
         }
-
-        return bookingRepository.save(booking);
     }
 
     private void updateRelatedEntities(Booking booking) {
-        SessionDTO sessionDTO = sessionMapper.toDto(booking.getSession());
-        updateSessionCapacity(sessionDTO);
+        reserveSeat(booking.getSession());
 
-        if (booking.getUserSubscription() != null) {
-            userSubscriptionService.decrementRemainingBookings(booking.getUserSubscription().getId());
+        if (booking.getUserSubscription() != null && !userSubscriptionService.decrementRemainingBookings(booking.getUserSubscription().getId())) {
+            throw new NoRemainingBookingsException(ErrorMessages.NO_REMAINING_BOOKINGS);
+        }
+    }
+
+    private void reserveSeat(Session session) {
+        if (!sessionService.reserveSeat(session.getId())) {
+            log.warn("No free places left for session id={}", session.getId());
+            throw new NoFreePlacesException(ErrorMessages.NO_FREE_PLACES);
         }
     }
 
-    private void updateSessionCapacity(SessionDTO sessionDTO) {
-        changeSessionCapacity(sessionDTO, CapacityOperation.DECREASE);
+    private void releaseSeat(Session session) {
+        sessionService.releaseSeat(session.getId());
+        promoteFromWaitlist(session);
+    }
+
+    private void promoteFromWaitlist(Session session) {
+        SessionDTO sessionDTO = SessionDTO.builder()
+                .poolName(session.getPool().getName())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .build();
+
+        Optional<WaitlistEntry> next;
+        while ((next = waitlistService.findNextForPromotion(session.getId())).isPresent()) {
+            WaitlistEntry entry = next.get();
+            BookingContext context = bookingContextBuilder.build(entry.getUser().getEmail(), sessionDTO);
+            if (!isEligibleForPromotion(sessionDTO, context) || !claimEntitlement(context)) {
+                waitlistService.removeEntry(entry);
+                continue;
+            }
+            if (!sessionService.reserveSeat(session.getId())) {
+                log.warn("Released seat in session id={} was taken before waitlist promotion", session.getId());
+                context.getActiveSubscription().ifPresent(subscription -> userSubscriptionService.incrementRemainingBookings(subscription.getId()));
+                return;
+            }
+            promote(entry, context);
+            return;
+        }
+    }
+
+    private boolean isEligibleForPromotion(SessionDTO sessionDTO, BookingContext context) {
+        BookingDTO bookingDTO = BookingDTO.builder().userEmail(context.getUser().getEmail()).sessionDTO(sessionDTO).build();
+        try {
+            createBookingValidationPipeline.validateEligibility(bookingDTO, context);
+            return true;
+        } catch (RuntimeException e) {
+            log.info("Dropping waitlist entry of user {} for session id={}: {}", context.getUser().getEmail(), context.getSession().getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean claimEntitlement(BookingContext context) {
+        Optional<UserSubscription> subscription = context.getActiveSubscription();
+        if (subscription.isEmpty() || userSubscriptionService.decrementRemainingBookings(subscription.get().getId())) {
+            return true;
+        }
+        log.info("Dropping waitlist entry of user {} for session id={}: {}", context.getUser().getEmail(), context.getSession().getId(), ErrorMessages.NO_REMAINING_BOOKINGS);
+        return false;
+    }
+
+    private void promote(WaitlistEntry entry, BookingContext context) {
+        Booking booking = context.getExistingBooking().orElseGet(() -> newBooking(context));
+        booking.setStatus(BookingStatus.ACTIVE);
+        booking.setBookingTime(LocalDateTime.now());
+        linkActiveSubscription(booking, context);
+
+        Booking saved = bookingRepository.save(booking);
+        waitlistService.removeEntry(entry);
+        publishBookingEvent(bookingMapper.toDto(saved));
+
+        log.info("Promoted user {} from waitlist to session id={}", entry.getUser().getEmail(), context.getSession().getId());
+    }
+
+    private void leaveWaitlist(BookingContext context) {
+        waitlistService.removeUserFromWaitlists(context.getUser().getId(), List.of(context.getSession().getId()));
     }
 
     private void publishBookingEvent(BookingDTO bookingDTO) {
@@ -262,8 +494,4 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingStatusNotActiveException(String.format(ErrorMessages.WRONG_STATUS, booking.getStatus()));
         }
     }
-
-    private Optional<Booking> findCancelledBookingForSession(BookingDTO bookingDTO) {
-        return bookingRepository.findByUser_EmailAndSession_Pool_NameAndSession_StartTimeAndStatus(bookingDTO.getUserEmail(), bookingDTO.getSessionDTO().getPoolName(), bookingDTO.getSessionDTO().getStartTime(), BookingStatus.CANCELLED).stream().findFirst();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.poolapp.pool.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.exception.IdempotencyConflictException;
+import com.poolapp.pool.model.IdempotencyRecord;
+import com.poolapp.pool.repository.IdempotencyRecordRepository;
+import com.poolapp.pool.service.IdempotencyService;
+import com.poolapp.pool.util.IdempotencyProperties;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotencyRecord> completedRequests;
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyRecord>> inFlightRequests = new ConcurrentHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+                                  IdempotencyProperties idempotencyProperties,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotencyProperties = idempotencyProperties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.completedRequests = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getMaxEntries())
+                .expireAfterWrite(idempotencyProperties.getTtl())
+                .build();
+    }
+
+    @Override
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action) {
+        validateKey(idempotencyKey);
+        String scopedKey = scope + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        IdempotencyRecord cached = completedRequests.getIfPresent(scopedKey);
+        if (cached != null) {
+            log.debug("Replaying cached response for idempotency key={}", scopedKey);
+            return replay(cached, requestHash, responseType);
+        }
+
+        CompletableFuture<IdempotencyRecord> pending = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlightRequests.putIfAbsent(scopedKey, pending);
+        if (running != null) {
+            log.debug("Waiting for in-flight request with idempotency key={}", scopedKey);
+            return replay(await(running), requestHash, responseType);
+        }
+
+        try {
+            Claim<T> claim = transactionTemplate.execute(status -> claimAndRun(scopedKey, requestHash, action));
+            completedRequests.put(scopedKey, claim.record());
+            pending.complete(claim.record());
+            if (claim.response() == null) {
+                log.debug("Replaying stored response for idempotency key={}", scopedKey);
+                return replay(claim.record(), requestHash, responseType);
+            }
+            return claim.response();
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(scopedKey, pending);
+        }
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpiredRecords() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Purged {} expired idempotency records", deleted);
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > idempotencyProperties.getMaxKeyLength()) {
+            throw new BadRequestException(String.format(ErrorMessages.IDEMPOTENCY_KEY_INVALID, idempotencyProperties.getMaxKeyLength()));
+        }
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(idempotencyProperties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(ErrorMessages.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(ErrorMessages.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            log.warn("Idempotency key={} reused with a different request payload", record.getIdempotencyKey());
+            throw new IdempotencyConflictException(ErrorMessages.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response can't be read", e);
+        }
+    }
+
+    /**
+     * Claims the key before running the action, in the same transaction, so the response is stored with the
+     * booking it describes. A concurrent claim from another instance blocks on the key's row until that
+     * transaction ends; once it commits, its stored response is replayed here.
+     */
+    private <T> Claim<T> claimAndRun(String scopedKey, String requestHash, Supplier<T> action) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(idempotencyProperties.getTtl());
+        if (idempotencyRecordRepository.claim(scopedKey, requestHash, now, expiresAt) == 0) {
+            IdempotencyRecord stored = idempotencyRecordRepository.findByIdempotencyKeyAndExpiresAtAfter(scopedKey, now)
+                    .filter(record -> record.getResponseBody() != null)
+                    .orElseThrow(() -> new IdempotencyConflictException(ErrorMessages.IDEMPOTENCY_KEY_IN_PROGRESS));
+            return new Claim<>(stored, null);
+        }
+
+        T response = action.get();
+        String responseBody = toJson(response);
+        idempotencyRecordRepository.complete(scopedKey, responseBody);
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .idempotencyKey(scopedKey)
+                .requestHash(requestHash)
+                .responseBody(responseBody)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build();
+        return new Claim<>(record, response);
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Claim<T>(IdempotencyRecord record, T response) {
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize idempotent request or response", e);
+        }
+    }
+}
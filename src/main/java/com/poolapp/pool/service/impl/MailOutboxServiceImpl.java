@@ -0,0 +1,140 @@
+package com.poolapp.pool.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.model.MailOutboxEntry;
+import com.poolapp.pool.model.enums.MailOutboxStatus;
+import com.poolapp.pool.model.enums.MailType;
+import com.poolapp.pool.repository.MailOutboxRepository;
+import com.poolapp.pool.service.MailOutboxService;
+import com.poolapp.pool.service.MailService;
+import com.poolapp.pool.util.MailOutboxProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Booking mails are written to the outbox in the booking transaction and sent later by a small worker pool,
+ * so SMTP latency and outages never reach the request thread.
+ */
+@Service
+@Slf4j
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor workers;
+
+    public MailOutboxServiceImpl(MailOutboxRepository mailOutboxRepository,
+                                 MailService mailService,
+                                 MailOutboxProperties mailOutboxProperties,
+                                 ObjectMapper objectMapper) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailService = mailService;
+        this.mailOutboxProperties = mailOutboxProperties;
+        this.objectMapper = objectMapper;
+        this.workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(mailOutboxProperties.getWorkers());
+        workers.setMaxPoolSize(mailOutboxProperties.getWorkers());
+        workers.setQueueCapacity(mailOutboxProperties.getBatchSize());
+        workers.setThreadNamePrefix("mail-outbox-");
+        workers.initialize();
+    }
+
+    @Override
+    public void enqueueBookingConfirmation(String toEmail, SessionDTO sessionDTO) {
+        MailOutboxEntry entry = new MailOutboxEntry();
+        entry.setMailType(MailType.BOOKING_CONFIRMATION);
+        entry.setRecipient(toEmail);
+        entry.setPayload(writePayload(sessionDTO));
+        entry.setStatus(MailOutboxStatus.PENDING);
+        LocalDateTime now = LocalDateTime.now();
+        entry.setNextAttemptAt(now);
+        entry.setCreatedAt(now);
+        mailOutboxRepository.save(entry);
+    }
+
+    /**
+     * Sends one batch per tick. A backlog drains over the following ticks instead of holding
+     * the scheduler thread until it is empty.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${mail-outbox.poll-interval:PT5S}")
+    public int dispatchPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutboxEntry> batch = mailOutboxRepository.claimDue(now, now.plus(mailOutboxProperties.getLease()), mailOutboxProperties.getBatchSize());
+        CompletableFuture.allOf(batch.stream()
+                .map(entry -> CompletableFuture.runAsync(() -> deliver(entry), workers))
+                .toArray(CompletableFuture[]::new)).join();
+
+        if (!batch.isEmpty()) {
+            log.debug("Dispatched {} outbox mails", batch.size());
+        }
+        return batch.size();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail-outbox.purge-interval:PT1H}")
+    public void purgeSentMessages() {
+        int deleted = mailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(mailOutboxProperties.getSentRetention()));
+        log.debug("Purged {} sent outbox mails", deleted);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private void deliver(MailOutboxEntry entry) {
+        try {
+            mailService.deliver(entry);
+            mailOutboxRepository.markSent(entry.getId(), LocalDateTime.now());
+        } catch (Exception e) {
+            recordFailure(entry, e);
+        }
+    }
+
+    private void recordFailure(MailOutboxEntry entry, Exception e) {
+        int attempts = entry.getAttempts() + 1;
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        if (attempts >= mailOutboxProperties.getMaxAttempts()) {
+            mailOutboxRepository.markFailed(entry.getId(), MailOutboxStatus.DEAD, entry.getNextAttemptAt(), error);
+            log.error("Outbox mail id={} to {} moved to dead letter after {} attempts: {}", entry.getId(), entry.getRecipient(), attempts, error);
+            return;
+        }
+        mailOutboxRepository.markFailed(entry.getId(), MailOutboxStatus.PENDING, LocalDateTime.now().plus(backoff(attempts)), error);
+        log.warn("Outbox mail id={} to {} failed (attempt {}): {}", entry.getId(), entry.getRecipient(), attempts, error);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration initial = mailOutboxProperties.getInitialBackoff();
+        Duration max = mailOutboxProperties.getMaxBackoff();
+        int exponent = Math.min(attempts - 1, 30);
+        Duration delay = initial.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 || delay.isNegative() ? max : delay;
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Mail outbox payload can't be written", e);
+        }
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
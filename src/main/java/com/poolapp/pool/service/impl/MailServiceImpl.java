@@ -1,6 +1,9 @@
 package com.poolapp.pool.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.model.MailOutboxEntry;
 import com.poolapp.pool.service.MailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Service;
 public class MailServiceImpl implements MailService {
 
     private final JavaMailSender mailSender;
+    private final ObjectMapper objectMapper;
 
     @Value("${spring.booking-confirmation.subject}")
     private String subjectTemplate;
@@ -29,6 +33,21 @@ public class MailServiceImpl implements MailService {
         mailSender.send(message);
     }
 
+    @Override
+    public void deliver(MailOutboxEntry entry) {
+        switch (entry.getMailType()) {
+            case BOOKING_CONFIRMATION -> sendBookingConfirmationEmail(entry.getRecipient(), readPayload(entry, SessionDTO.class));
+        }
+    }
+
+    private <T> T readPayload(MailOutboxEntry entry, Class<T> type) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Mail outbox payload can't be read: id=" + entry.getId(), e);
+        }
+    }
+
     private String formatTemplate(String template, SessionDTO sessionDTO) {
         return template
                 .replace("{poolName}", sessionDTO.getPoolName())
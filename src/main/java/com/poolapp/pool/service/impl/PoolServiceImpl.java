@@ -13,8 +13,11 @@ import com.poolapp.pool.repository.PoolRepository;
 import com.poolapp.pool.repository.PoolScheduleRepository;
 import com.poolapp.pool.repository.specification.builder.PoolSpecificationBuilder;
 import com.poolapp.pool.service.PoolService;
+import com.poolapp.pool.util.PoolCache;
+import com.poolapp.pool.util.PoolChangedEvent;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,19 +34,24 @@ public class PoolServiceImpl implements PoolService {
     private final PoolMapper poolMapper;
     private final PoolScheduleMapper poolScheduleMapper;
     private final PoolSpecificationBuilder poolSpecificationBuilder;
+    private final PoolCache poolCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Served from {@link PoolCache}; the returned pool is shared and must not be modified.
+     */
     @Override
     public Pool getPoolByName(String name) {
-        return poolRepository.findByName(name)
-                .orElseThrow(() -> new ModelNotFoundException(
-                        ApiErrorCode.NOT_FOUND,
-                        String.format("Pool not found: %s", name)
-                ));
+        return poolCache.getByName(name)
+                .orElseThrow(() -> poolNotFound(name));
     }
 
+    @Transactional
     @Override
     public PoolDTO createPool(PoolDTO dto) {
-        return poolMapper.toDto(poolRepository.save(poolMapper.toEntity(dto)));
+        Pool saved = poolRepository.save(poolMapper.toEntity(dto));
+        eventPublisher.publishEvent(new PoolChangedEvent(saved.getName()));
+        return poolMapper.toDto(saved);
     }
 
     @Override
@@ -54,51 +62,65 @@ public class PoolServiceImpl implements PoolService {
         return poolMapper.toDtoList(poolRepository.findAll(spec));
     }
 
+    @Transactional
     @Override
     public PoolDTO updatePool(RequestPoolDTO updatePool) {
-        Pool pool = getPoolByName(updatePool.getName());
+        Pool pool = loadPool(updatePool.getName());
         poolMapper.updatePoolFromRequestDto(pool, updatePool);
-        return poolMapper.toDto(poolRepository.save(pool));
+        Pool saved = poolRepository.save(pool);
+        eventPublisher.publishEvent(new PoolChangedEvent(saved.getName()));
+        return poolMapper.toDto(saved);
     }
 
     @Transactional
     @Override
     public void deletePool(RequestPoolDTO dto) {
         poolRepository.deleteByName(dto.getName());
+        eventPublisher.publishEvent(new PoolChangedEvent(dto.getName()));
     }
 
+    @Transactional
     @Override
     public PoolDTO updateCapacity(RequestPoolDTO dto) {
-        Pool pool = getPoolByName(dto.getName());
+        Pool pool = loadPool(dto.getName());
         pool.setMaxCapacity(dto.getMaxCapacity());
-        return poolMapper.toDto(poolRepository.save(pool));
+        Pool saved = poolRepository.save(pool);
+        eventPublisher.publishEvent(new PoolChangedEvent(saved.getName()));
+        return poolMapper.toDto(saved);
     }
 
+    @Transactional
     @Override
     public PoolScheduleDTO createOrUpdateSchedule(PoolScheduleDTO dto) {
-        Pool pool = getPoolByName(dto.getPoolName());
+        Pool pool = loadPool(dto.getPoolName());
         PoolSchedule schedule = poolScheduleMapper.toEntity(dto, pool);
+        schedule.setPool(pool);
 
-        return scheduleRepository.findByPoolNameAndDayOfWeek(pool.getName(), dto.getDayOfWeek())
+        PoolScheduleDTO saved = scheduleRepository.findByPoolNameAndDayOfWeek(pool.getName(), dto.getDayOfWeek())
                 .map(existing -> saveUpdatedSchedule(existing, schedule))
                 .orElseGet(() -> poolScheduleMapper.toDto(scheduleRepository.save(schedule)));
+        eventPublisher.publishEvent(new PoolChangedEvent(pool.getName()));
+        return saved;
     }
 
+    @Transactional
     @Override
     public PoolScheduleDTO updateSchedule(RequestPoolScheduleDTO dto) {
         PoolSchedule existing = getScheduleByPoolAndDay(dto.getPoolName(), dto.getDayOfWeek());
-        Pool pool = getPoolByName(dto.getPoolName());
+        Pool pool = loadPool(dto.getPoolName());
 
         poolScheduleMapper.updateScheduleWith(existing, poolScheduleMapper.toEntity(dto, pool));
         existing.setPool(pool);
 
-        return poolScheduleMapper.toDto(scheduleRepository.save(existing));
+        PoolSchedule saved = scheduleRepository.save(existing);
+        eventPublisher.publishEvent(new PoolChangedEvent(pool.getName()));
+        return poolScheduleMapper.toDto(saved);
     }
 
     @Transactional
     @Override
     public void deleteScheduleByDay(RequestPoolScheduleDTO dto) {
-        Pool pool = getPoolByName(dto.getPoolName());
+        Pool pool = loadPool(dto.getPoolName());
         if (!scheduleRepository.existsByPoolIdAndDayOfWeek(pool.getId(), dto.getDayOfWeek())) {
             throw new ModelNotFoundException(
                     ApiErrorCode.NOT_FOUND,
@@ -106,11 +128,12 @@ public class PoolServiceImpl implements PoolService {
             );
         }
         scheduleRepository.deleteByPoolIdAndDayOfWeek(pool.getId(), dto.getDayOfWeek());
+        eventPublisher.publishEvent(new PoolChangedEvent(pool.getName()));
     }
 
     @Override
     public List<PoolScheduleDTO> getSchedulesForPool(PoolDTO dto) {
-        return scheduleRepository.findByPoolId(getPoolByName(dto.getName()).getId())
+        return poolCache.getSchedules(getPoolByName(dto.getName()).getId())
                 .stream()
                 .map(poolScheduleMapper::toDto)
                 .collect(Collectors.toList());
@@ -121,6 +144,18 @@ public class PoolServiceImpl implements PoolService {
         return poolMapper.toDtoList(scheduleRepository.findPoolsByDayOfWeek(dayOfWeek));
     }
 
+    private Pool loadPool(String name) {
+        return poolRepository.findByName(name)
+                .orElseThrow(() -> poolNotFound(name));
+    }
+
+    private ModelNotFoundException poolNotFound(String name) {
+        return new ModelNotFoundException(
+                ApiErrorCode.NOT_FOUND,
+                String.format("Pool not found: %s", name)
+        );
+    }
+
     private PoolSchedule getScheduleByPoolAndDay(String poolName, Short dayOfWeek) {
         return scheduleRepository.findByPoolNameAndDayOfWeek(poolName, dayOfWeek)
                 .orElseThrow(() -> new ModelNotFoundException(
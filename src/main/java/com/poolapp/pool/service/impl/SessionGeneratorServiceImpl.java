@@ -0,0 +1,143 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.requestDTO.SessionGenerationRequest;
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.exception.ModelNotFoundException;
+import com.poolapp.pool.exception.SessionOverlapException;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.PoolSchedule;
+import com.poolapp.pool.repository.PoolRepository;
+import com.poolapp.pool.repository.SessionRepository;
+import com.poolapp.pool.repository.projection.SessionSlot;
+import com.poolapp.pool.service.SessionGeneratorService;
+import com.poolapp.pool.util.PoolCache;
+import com.poolapp.pool.util.exception.ApiErrorCode;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import com.poolapp.pool.util.exception.SqlStates;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Expands pool schedules into sessions. Existing sessions are read with one range query per pool and the new
+ * ones are written with JDBC batch inserts instead of one entity save per slot.
+ */
+@Service
+@Slf4j
+public class SessionGeneratorServiceImpl implements SessionGeneratorService {
+
+    private static final String INSERT_SESSION = "INSERT INTO session (pool_id, start_time, end_time, current_capacity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final PoolRepository poolRepository;
+    private final PoolCache poolCache;
+    private final SessionRepository sessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxDays;
+
+    public SessionGeneratorServiceImpl(PoolRepository poolRepository,
+                                       PoolCache poolCache,
+                                       SessionRepository sessionRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       @Value("${session-generator.batch-size:500}") int batchSize,
+                                       @Value("${session-generator.max-days:366}") int maxDays) {
+        this.poolRepository = poolRepository;
+        this.poolCache = poolCache;
+        this.sessionRepository = sessionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    @Transactional
+    public int generateSessions(SessionGenerationRequest request) {
+        LocalDate from = request.getFrom();
+        LocalDate to = request.getTo();
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BadRequestException(String.format("Session generation range must cover 1 to %d days", maxDays));
+        }
+
+        long started = System.nanoTime();
+        int created = 0;
+        for (String poolName : new LinkedHashSet<>(request.getPoolNames())) {
+            created += generateForPool(poolName, from, to);
+        }
+        log.info("Generated {} sessions for {} pools between {} and {} in {} ms", created, request.getPoolNames().size(), from, to, (System.nanoTime() - started) / 1_000_000);
+        return created;
+    }
+
+    private int generateForPool(String poolName, LocalDate from, LocalDate to) {
+        Pool pool = poolRepository.findByNameForUpdate(poolName)
+                .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, poolName));
+        Map<Short, PoolSchedule> scheduleByDay = poolCache.getSchedules(pool.getId()).stream()
+                .collect(Collectors.toMap(PoolSchedule::getDayOfWeek, Function.identity()));
+        if (scheduleByDay.isEmpty()) {
+            return 0;
+        }
+
+        List<SessionSlot> existing = sessionRepository.findSlotsOverlapping(pool.getId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        List<SessionSlot> slots = planSlots(pool, scheduleByDay, existing, from, to);
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SESSION, slots, batchSize, (ps, slot) -> {
+                ps.setInt(1, pool.getId());
+                ps.setObject(2, slot.getStartTime());
+                ps.setObject(3, slot.getEndTime());
+                ps.setInt(4, pool.getMaxCapacity());
+                ps.setObject(5, now);
+                ps.setObject(6, now);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (SqlStates.hasSqlState(e, SqlStates.EXCLUSION_VIOLATION)) {
+                throw new SessionOverlapException(String.format(ErrorMessages.SESSION_OVERLAP, poolName));
+            }
+            throw e;
+        }
+        return slots.size();
+    }
+
+    /**
+     * Cuts every scheduled day into back-to-back slots of the pool's session length and drops the ones that overlap
+     * an existing session. Both sequences are in start order, so a single forward pass over {@code existing} is enough.
+     */
+    List<SessionSlot> planSlots(Pool pool, Map<Short, PoolSchedule> scheduleByDay, List<SessionSlot> existing,
+                                    LocalDate from, LocalDate to) {
+        List<SessionSlot> slots = new ArrayList<>();
+        int next = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            PoolSchedule schedule = scheduleByDay.get((short) date.getDayOfWeek().getValue());
+            if (schedule == null) {
+                continue;
+            }
+            LocalDateTime closing = date.atTime(schedule.getClosingTime());
+            LocalDateTime start = date.atTime(schedule.getOpeningTime());
+            LocalDateTime end = start.plusMinutes(pool.getSessionDurationMinutes());
+            while (!end.isAfter(closing)) {
+                while (next < existing.size() && !existing.get(next).getEndTime().isAfter(start)) {
+                    next++;
+                }
+                if (next == existing.size() || !existing.get(next).getStartTime().isBefore(end)) {
+                    slots.add(new SessionSlot(start, end));
+                }
+                start = end;
+                end = start.plusMinutes(pool.getSessionDurationMinutes());
+            }
+        }
+        return slots;
+    }
+}
@@ -8,38 +8,69 @@ import com.poolapp.pool.exception.SessionOverlapException;
 import com.poolapp.pool.mapper.SessionMapper;
 import com.poolapp.pool.model.Pool;
 import com.poolapp.pool.model.Session;
-import com.poolapp.pool.repository.PoolRepository;
 import com.poolapp.pool.repository.SessionRepository;
 import com.poolapp.pool.repository.specification.builder.SessionSpecificationBuilder;
 import com.poolapp.pool.service.PoolService;
 import com.poolapp.pool.service.SessionService;
 import com.poolapp.pool.util.ChangeSessionCapacityRequest;
+import com.poolapp.pool.util.ServiceMetrics;
+import com.poolapp.pool.util.SessionAvailabilityCache;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import com.poolapp.pool.util.exception.ErrorMessages;
+import com.poolapp.pool.util.exception.SqlStates;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SessionServiceImpl implements SessionService {
 
+    private static final String CAPACITY_METRIC_NAME = "session.capacity.changes";
+    private static final String SEAT_METRIC_NAME = "session.seats";
+
     private final SessionRepository sessionRepository;
-    private final PoolRepository poolRepository;
     private final SessionMapper sessionMapper;
     private final PoolService poolService;
     private final SessionSpecificationBuilder sessionSpecificationBuilder;
+    private final SessionAvailabilityCache sessionAvailabilityCache;
+    private final ServiceMetrics serviceMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public Optional<Session> getSessionByPoolNameAndStartTime(String poolName, LocalDateTime startTime) {
         return sessionRepository.findByPoolNameAndStartTime(poolName, startTime);
     }
 
+    @Override
+    public int getRemainingSeats(String poolName, LocalDateTime startTime) {
+        OptionalInt cached = sessionAvailabilityCache.getRemainingSeats(poolName, startTime);
+        if (cached.isPresent()) {
+            return cached.getAsInt();
+        }
+        Session session = getExistingSession(poolName, startTime);
+        sessionAvailabilityCache.put(session);
+        return session.getCurrentCapacity();
+    }
+
+    @Override
+    public boolean isKnownSoldOut(String poolName, LocalDateTime startTime) {
+        OptionalInt cached = sessionAvailabilityCache.getRemainingSeats(poolName, startTime);
+        return cached.isPresent() && cached.getAsInt() <= 0;
+    }
+
     @Override
     public boolean validateSessionHasAvailableSpots(SessionDTO sessionDTO) {
         Session session = getExistingSession(sessionDTO.getPoolName(), sessionDTO.getStartTime());
@@ -53,47 +84,58 @@ public class SessionServiceImpl implements SessionService {
     @Override
     public SessionDTO createSession(SessionDTO sessionDTO) {
         String poolName = sessionDTO.getPoolName();
+        Pool pool = poolService.getPoolByName(poolName);
 
-        Specification<Session> overlapSpec = sessionSpecificationBuilder.hasTimeOverlap(poolName, sessionDTO.getStartTime(), sessionDTO.getEndTime());
-        boolean hasOverlap = sessionRepository.count(overlapSpec) > 0;
-
-        if (hasOverlap) {
-            throw new SessionOverlapException(ErrorMessages.EMAIL_IS_TAKEN);
-        }
-
-        Pool pool = poolRepository.findByName(poolName)
-                .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, poolName));
-
-        Session session = sessionMapper.toEntity(sessionDTO);
-        session.setPool(pool);
-        session.setCurrentCapacity(pool.getMaxCapacity());
-
-        Session saved = sessionRepository.save(session);
+        Session saved = saveWithoutOverlap(newSession(sessionDTO, pool), poolName);
         return sessionMapper.toDto(saved);
     }
 
+    @Override
+    @Transactional
     public List<SessionDTO> createSessions(List<SessionDTO> dtos) {
-        return dtos.stream()
-                .map(this::createSession)
-                .collect(Collectors.toList());
+        Set<String> poolNames = dtos.stream().map(SessionDTO::getPoolName).collect(Collectors.toSet());
+        List<Session> sessions = dtos.stream()
+                .map(dto -> newSession(dto, poolService.getPoolByName(dto.getPoolName())))
+                .toList();
+
+        try {
+            return sessionRepository.saveAllAndFlush(sessions).stream().map(sessionMapper::toDto).toList();
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlap(e, String.join(", ", poolNames));
+        }
     }
 
     @Override
     public void changeSessionCapacity(ChangeSessionCapacityRequest request) {
-        SessionDTO sessionDTO = request.getSessionDTO();
-        Session session = getExistingSession(sessionDTO.getPoolName(), sessionDTO.getStartTime());
+        serviceMetrics.record(CAPACITY_METRIC_NAME, request.getOperation().name().toLowerCase(),
+                () -> transactionTemplate.executeWithoutResult(status -> applyCapacityChange(request)));
+    }
 
-        int newCapacity = switch (request.getOperation()) {
-            case INCREASE -> session.getCurrentCapacity() + 1;
-            case DECREASE -> session.getCurrentCapacity() - 1;
-        };
+    @Override
+    @Transactional
+    public boolean reserveSeat(Integer sessionId) {
+        boolean reserved = sessionRepository.decrementCapacityIfAvailable(sessionId) > 0;
+        recordReservation(sessionId, reserved);
+        return reserved;
+    }
 
-        if (newCapacity < 0) {
-            throw new NoFreePlacesException(ErrorMessages.NO_FREE_PLACES);
+    @Override
+    @Transactional
+    public Set<Integer> reserveSeats(Collection<Integer> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return Set.of();
         }
+        Set<Integer> reserved = new HashSet<>(sessionRepository.decrementCapacitiesIfAvailable(sessionIds));
+        sessionIds.forEach(sessionId -> recordReservation(sessionId, reserved.contains(sessionId)));
+        return reserved;
+    }
 
-        session.setCurrentCapacity(newCapacity);
-        sessionRepository.save(session);
+    @Override
+    @Transactional
+    public void releaseSeat(Integer sessionId) {
+        sessionRepository.incrementCapacity(sessionId);
+        sessionAvailabilityCache.seatReleased(sessionId);
+        serviceMetrics.incrementAfterCommit(SEAT_METRIC_NAME, "release", ServiceMetrics.SUCCESS);
     }
 
     @Override
@@ -104,7 +146,8 @@ public class SessionServiceImpl implements SessionService {
         sessionMapper.updateSessionWith(session, incoming);
         session.setPool(poolService.getPoolByName(dto.getRequestPoolDTO().getName()));
 
-        Session updated = sessionRepository.save(session);
+        Session updated = saveWithoutOverlap(session, session.getPool().getName());
+        sessionAvailabilityCache.invalidate(updated.getId());
         return sessionMapper.toDto(updated);
     }
 
@@ -112,6 +155,7 @@ public class SessionServiceImpl implements SessionService {
     public void deleteSession(RequestSessionDTO dto) {
         Session session = getExistingSession(dto.getRequestPoolDTO().getName(), dto.getStartTime());
         sessionRepository.delete(session);
+        sessionAvailabilityCache.invalidate(session.getId());
     }
 
 
@@ -122,6 +166,57 @@ public class SessionServiceImpl implements SessionService {
         return sessionRepository.findAll(spec).stream().map(sessionMapper::toDto).toList();
     }
 
+    private void applyCapacityChange(ChangeSessionCapacityRequest request) {
+        SessionDTO sessionDTO = request.getSessionDTO();
+        Session session = getExistingSession(sessionDTO.getPoolName(), sessionDTO.getStartTime());
+
+        switch (request.getOperation()) {
+            case INCREASE -> releaseSeat(session.getId());
+            case DECREASE -> {
+                if (!reserveSeat(session.getId())) {
+                    throw new NoFreePlacesException(ErrorMessages.NO_FREE_PLACES);
+                }
+            }
+        }
+    }
+
+    private void recordReservation(Integer sessionId, boolean reserved) {
+        if (reserved) {
+            sessionAvailabilityCache.seatReserved(sessionId);
+            serviceMetrics.incrementAfterCommit(SEAT_METRIC_NAME, "reserve", ServiceMetrics.SUCCESS);
+        } else {
+            sessionAvailabilityCache.soldOut(sessionId);
+            // the refusal usually rolls the booking back, so it is counted right away
+            serviceMetrics.increment(SEAT_METRIC_NAME, "reserve", "no_free_places");
+        }
+    }
+
+    private Session newSession(SessionDTO dto, Pool pool) {
+        Session session = sessionMapper.toEntity(dto);
+        session.setPool(pool);
+        session.setCurrentCapacity(pool.getMaxCapacity());
+        return session;
+    }
+
+    /**
+     * Overlaps are rejected by the {@code session_no_overlap} exclusion constraint, so the insert is flushed here
+     * to surface a violation as {@link SessionOverlapException}.
+     */
+    private Session saveWithoutOverlap(Session session, String poolName) {
+        try {
+            return sessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlap(e, poolName);
+        }
+    }
+
+    private RuntimeException translateOverlap(DataIntegrityViolationException e, String poolName) {
+        if (SqlStates.hasSqlState(e, SqlStates.EXCLUSION_VIOLATION)) {
+            return new SessionOverlapException(String.format(ErrorMessages.SESSION_OVERLAP, poolName));
+        }
+        return e;
+    }
+
     private Session getExistingSession(String poolName, LocalDateTime startTime) {
         return sessionRepository.findByPoolNameAndStartTime(poolName, startTime)
                 .orElseThrow(() -> {
@@ -9,7 +9,10 @@ import com.poolapp.pool.repository.SubscriptionRepository;
 import com.poolapp.pool.repository.specification.builder.SubscriptionSpecificationBuilder;
 import com.poolapp.pool.service.SubscriptionService;
 import com.poolapp.pool.service.SubscriptionTypeService;
+import com.poolapp.pool.util.SubscriptionCatalogue;
+import com.poolapp.pool.util.SubscriptionCatalogueChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,11 +27,15 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     private final SubscriptionMapper subscriptionMapper;
     private final SubscriptionSpecificationBuilder specificationBuilder;
     private final SubscriptionTypeService subscriptionTypeService;
+    private final SubscriptionCatalogue subscriptionCatalogue;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public SubscriptionDTO createSubscription(SubscriptionDTO dto) {
-        return subscriptionMapper.toDto(createOrUpdateSubscription(dto, false));
+        Subscription saved = createOrUpdateSubscription(dto);
+        eventPublisher.publishEvent(new SubscriptionCatalogueChangedEvent(saved.getSubscriptionType().getName()));
+        return subscriptionMapper.toDto(saved);
     }
 
     @Override
@@ -37,13 +44,17 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         return subscriptionMapper.toDtoList(subscriptionRepository.findAll(spec));
     }
 
+    /**
+     * Served from {@link SubscriptionCatalogue}; only a combination that does not exist yet reaches the database.
+     */
     @Override
     @Transactional
     public Subscription findOrCreateBySubscriptionDTO(SubscriptionDTO dto) {
-        return createOrUpdateSubscription(dto, true);
+        return subscriptionCatalogue.findSubscription(dto.getSubscriptionTypeDTO().getName(), dto.getStatus())
+                .orElseGet(() -> createOrUpdateSubscription(dto));
     }
 
-    private Subscription createOrUpdateSubscription(SubscriptionDTO dto, boolean returnEntity) {
+    private Subscription createOrUpdateSubscription(SubscriptionDTO dto) {
         SubscriptionType subscriptionType = subscriptionTypeService.findByNameOrCreateNew(dto.getSubscriptionTypeDTO());
 
         return subscriptionRepository.findBySubscriptionTypeAndStatus(subscriptionType, dto.getStatus()).map(existing -> {
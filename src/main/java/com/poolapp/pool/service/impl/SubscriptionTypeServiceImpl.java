@@ -5,40 +5,65 @@ import com.poolapp.pool.dto.requestDTO.RequestSubscriptionTypeDTO;
 import com.poolapp.pool.exception.ModelNotFoundException;
 import com.poolapp.pool.mapper.SubscriptionTypeMapper;
 import com.poolapp.pool.model.SubscriptionType;
+import com.poolapp.pool.repository.SubscriptionRepository;
 import com.poolapp.pool.repository.SubscriptionTypeRepository;
+import com.poolapp.pool.repository.UserSubscriptionRepository;
 import com.poolapp.pool.repository.specification.builder.SubscriptionTypeSpecificationBuilder;
 import com.poolapp.pool.service.SubscriptionTypeService;
+import com.poolapp.pool.util.SubscriptionCatalogue;
+import com.poolapp.pool.util.SubscriptionCatalogueChangedEvent;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SubscriptionTypeServiceImpl implements SubscriptionTypeService {
 
     private final SubscriptionTypeRepository subscriptionTypeRepository;
+    private final UserSubscriptionRepository userSubscriptionRepository;
+    private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionTypeMapper subscriptionTypeMapper;
     private final SubscriptionTypeSpecificationBuilder specificationBuilder;
+    private final SubscriptionCatalogue subscriptionCatalogue;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public SubscriptionTypeDTO createSubscriptionType(SubscriptionTypeDTO dto) {
         SubscriptionType entity = subscriptionTypeMapper.toEntity(dto);
-        return subscriptionTypeMapper.toDto(subscriptionTypeRepository.save(entity));
+        SubscriptionType saved = subscriptionTypeRepository.save(entity);
+        eventPublisher.publishEvent(new SubscriptionCatalogueChangedEvent(saved.getName()));
+        return subscriptionTypeMapper.toDto(saved);
     }
 
     @Override
+    @Transactional
     public SubscriptionTypeDTO updateSubscriptionType(RequestSubscriptionTypeDTO dto) {
         SubscriptionType entity = getSubscriptionTypeByName(dto.getName());
+        Integer previousDurationDays = entity.getDurationDays();
         subscriptionTypeMapper.updateSubscriptionTypeFromDto(entity, dto);
-        return subscriptionTypeMapper.toDto(subscriptionTypeRepository.save(entity));
+        SubscriptionType saved = subscriptionTypeRepository.saveAndFlush(entity);
+        if (!saved.getDurationDays().equals(previousDurationDays)) {
+            refreshExpiry(saved);
+        }
+        eventPublisher.publishEvent(new SubscriptionCatalogueChangedEvent(saved.getName()));
+        return subscriptionTypeMapper.toDto(saved);
     }
 
     @Override
+    @Transactional
     public void deleteSubscriptionType(RequestSubscriptionTypeDTO dto) {
         subscriptionTypeRepository.delete(getSubscriptionTypeByName(dto.getName()));
+        eventPublisher.publishEvent(new SubscriptionCatalogueChangedEvent(dto.getName()));
     }
 
     @Override
@@ -51,7 +76,7 @@ public class SubscriptionTypeServiceImpl implements SubscriptionTypeService {
 
     @Override
     public SubscriptionType findByNameOrCreateNew(SubscriptionTypeDTO dto) {
-        return subscriptionTypeRepository.findByName(dto.getName())
+        return subscriptionCatalogue.findType(dto.getName())
                 .orElseGet(() -> createNewSubscriptionType(dto));
     }
 
@@ -67,4 +92,14 @@ public class SubscriptionTypeServiceImpl implements SubscriptionTypeService {
         SubscriptionType entity = subscriptionTypeMapper.toEntity(dto);
         return subscriptionTypeRepository.save(entity);
     }
-}
\ No newline at end of file
+
+    private void refreshExpiry(SubscriptionType type) {
+        LocalDateTime now = LocalDateTime.now();
+        userSubscriptionRepository.refreshExpiresAtForType(type.getId());
+        subscriptionRepository.insertMissingActiveSubscription(type.getId(), now);
+        int reactivated = userSubscriptionRepository.reactivateSubscriptionsOfType(type.getId(), now);
+        if (reactivated > 0) {
+            log.info("Reactivated {} expired assignments of subscription type {}", reactivated, type.getName());
+        }
+    }
+}
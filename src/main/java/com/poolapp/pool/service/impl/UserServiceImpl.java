@@ -10,10 +10,13 @@ import com.poolapp.pool.model.enums.RoleType;
 import com.poolapp.pool.repository.BookingRepository;
 import com.poolapp.pool.repository.RoleRepository;
 import com.poolapp.pool.repository.UserRepository;
+import com.poolapp.pool.security.TokenRevocationList;
 import com.poolapp.pool.service.UserService;
+import com.poolapp.pool.util.UserChangedEvent;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +34,8 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenRevocationList tokenRevocationList;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDTO createUser(UserDTO dto) {
@@ -40,6 +45,7 @@ public class UserServiceImpl implements UserService {
         user.setCreatedAt(LocalDateTime.now());
         user.setRole(role);
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getEmail()));
         return userMapper.toDto(saved);
     }
 
@@ -50,8 +56,10 @@ public class UserServiceImpl implements UserService {
         User target = userRepository.findByEmail(dto.getEmail())
                 .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, dto.getEmail()));
 
+        boolean revokeTokens = false;
         if (dto.getRoleType() != null) {
             Role newRole = getRoleByType(dto.getRoleType());
+            revokeTokens = target.getRole().getName() != newRole.getName();
             target.setRole(newRole);
         }
 
@@ -59,9 +67,29 @@ public class UserServiceImpl implements UserService {
 
         if (dto.getPassword() != null && !dto.getPassword().trim().isEmpty()) {
             target.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
+            revokeTokens = true;
         }
 
-        return userMapper.toDto(userRepository.save(target));
+        if (revokeTokens) {
+            bumpTokenVersion(target);
+        }
+
+        User saved = userRepository.save(target);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getEmail()));
+        return userMapper.toDto(saved);
+    }
+
+    /**
+     * Invalidates every access and refresh token issued to the user so far.
+     */
+    @Override
+    @Transactional
+    public void revokeTokens(String email) {
+        User target = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, email));
+        bumpTokenVersion(target);
+        userRepository.save(target);
+        eventPublisher.publishEvent(new UserChangedEvent(target.getEmail()));
     }
 
     public Optional<User> findUserByEmail(String email) {
@@ -74,6 +102,12 @@ public class UserServiceImpl implements UserService {
                 .orElse(false);
     }
 
+    private void bumpTokenVersion(User target) {
+        target.setTokenVersion(target.getTokenVersion() + 1);
+        tokenRevocationList.revokeBefore(target.getId(), target.getTokenVersion());
+        log.info("Revoked tokens of user id={} below version {}", target.getId(), target.getTokenVersion());
+    }
+
     private Role getRoleByType(RoleType roleType) {
         return roleRepository.findByName(roleType)
                 .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, roleType.name()));
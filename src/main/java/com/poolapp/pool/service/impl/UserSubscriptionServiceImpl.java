@@ -10,13 +10,16 @@ import com.poolapp.pool.model.Subscription;
 import com.poolapp.pool.model.User;
 import com.poolapp.pool.model.UserSubscription;
 import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
 import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.SubscriptionRepository;
 import com.poolapp.pool.repository.UserRepository;
 import com.poolapp.pool.repository.UserSubscriptionRepository;
 import com.poolapp.pool.repository.specification.UserSubscriptionSpecification;
 import com.poolapp.pool.repository.specification.builder.UserSubscriptionSpecificationBuilder;
 import com.poolapp.pool.service.SubscriptionService;
 import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.util.ServiceMetrics;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import com.poolapp.pool.util.exception.ErrorMessages;
 import lombok.RequiredArgsConstructor;
@@ -34,15 +37,35 @@ import java.util.Optional;
 @Slf4j
 public class UserSubscriptionServiceImpl implements UserSubscriptionService {
 
+    private static final String METRIC_NAME = "user.subscription.operations";
+    private static final String BOOKINGS_METRIC_NAME = "user.subscription.bookings";
+    private static final String EXPIRED_METRIC_NAME = "user.subscription.expired";
+
     private final UserSubscriptionRepository userSubscriptionRepository;
+    private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final UserSubscriptionMapper userSubscriptionMapper;
     private final UserSubscriptionSpecificationBuilder specificationBuilder;
     private final SubscriptionService subscriptionService;
+    private final ServiceMetrics serviceMetrics;
 
     @Override
     public UserSubscriptionDTO createUserSubscription(UserSubscriptionDTO dto) {
+        return serviceMetrics.record(METRIC_NAME, "create", () -> assignSubscription(dto));
+    }
+
+    @Override
+    public UserSubscriptionDTO updateUserSubscription(RequestUserSubscriptionDTO requestDto) {
+        return serviceMetrics.record(METRIC_NAME, "update", () -> changeSubscription(requestDto));
+    }
+
+    @Override
+    public void deleteUserSubscription(RequestUserSubscriptionDTO requestDto) {
+        serviceMetrics.record(METRIC_NAME, "delete", () -> removeSubscription(requestDto));
+    }
+
+    private UserSubscriptionDTO assignSubscription(UserSubscriptionDTO dto) {
         validateDto(dto);
         log.info("Creating UserSubscription for user: {}", dto.getUserEmail());
 
@@ -55,8 +78,7 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
         return userSubscriptionMapper.toDto(saved);
     }
 
-    @Override
-    public UserSubscriptionDTO updateUserSubscription(RequestUserSubscriptionDTO requestDto) {
+    private UserSubscriptionDTO changeSubscription(RequestUserSubscriptionDTO requestDto) {
         validateDto(requestDto);
         UserSubscription subscription = findSubscriptionByRequest(requestDto)
                 .orElseThrow(() -> new ModelNotFoundException(
@@ -65,13 +87,13 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
                 ));
 
         userSubscriptionMapper.updateUserSubscriptionFromDto(subscription, requestDto);
+        subscription.setExpiresAt(calculateExpiresAt(subscription.getAssignedAt(), subscription.getSubscription()));
         UserSubscription saved = userSubscriptionRepository.save(subscription);
         log.info("UserSubscription updated: id={}", saved.getId());
         return userSubscriptionMapper.toDto(saved);
     }
 
-    @Override
-    public void deleteUserSubscription(RequestUserSubscriptionDTO requestDto) {
+    private void removeSubscription(RequestUserSubscriptionDTO requestDto) {
         validateDto(requestDto);
         UserSubscription subscription = findSubscriptionByRequest(requestDto)
                 .orElseThrow(() -> new ModelNotFoundException(
@@ -104,12 +126,9 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
                     return new ModelNotFoundException(ApiErrorCode.NOT_FOUND, userSubscriptionDTO.getUserEmail());
                 });
 
-        LocalDateTime expirationDate = subscription.getAssignedAt()
-                .plusDays(subscription.getSubscription().getSubscriptionType().getDurationDays());
-
-        boolean expired = expirationDate.isBefore(now);
-        log.debug("UserSubscription expired={} for user={}, expirationDate={}",
-                expired, userSubscriptionDTO.getUserEmail(), expirationDate);
+        boolean expired = subscription.getExpiresAt().isBefore(now);
+        log.debug("UserSubscription expired={} for user={}, expiresAt={}",
+                expired, userSubscriptionDTO.getUserEmail(), subscription.getExpiresAt());
         return expired;
     }
 
@@ -118,15 +137,8 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
         log.debug("Finding active subscription for user: {}", userEmail);
         validateEmail(userEmail);
 
-        Specification<UserSubscription> spec = specificationBuilder.buildActiveSubscriptionForUserSpec(userEmail);
-
-        return userSubscriptionRepository.findAll(spec).stream()
-                .filter(sub -> sub.getAssignedAt()
-                        .plusDays(sub.getSubscription()
-                                .getSubscriptionType()
-                                .getDurationDays())
-                        .isAfter(LocalDateTime.now()))
-                .findFirst();
+        return serviceMetrics.record(METRIC_NAME, "find_active",
+                () -> userSubscriptionRepository.findActiveForUser(userEmail, SubscriptionStatus.ACTIVE, LocalDateTime.now()));
     }
 
     @Override
@@ -147,30 +159,49 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
     @Override
     @Transactional
     public void incrementRemainingBookings(Integer subscriptionId) {
-        userSubscriptionRepository.findById(subscriptionId).ifPresent(sub -> {
-            int maxBookings = sub.getSubscription().getSubscriptionType().getMaxBookingsPerMonth();
-            int newCount = Math.min(sub.getRemainingBookings() + 1, maxBookings);
-            sub.setRemainingBookings(newCount);
-            userSubscriptionRepository.save(sub);
-            log.debug("Incremented remaining bookings for subscription id={}. Remaining: {}",
-                    subscriptionId, newCount);
-        });
+        int updated = userSubscriptionRepository.incrementRemainingBookings(subscriptionId, 1);
+        serviceMetrics.incrementAfterCommit(BOOKINGS_METRIC_NAME, "return", ServiceMetrics.SUCCESS);
+        log.debug("Returned a booking to subscription id={}, updated={}", subscriptionId, updated);
+    }
+
+    @Override
+    @Transactional
+    public boolean decrementRemainingBookings(Integer subscriptionId) {
+        boolean decremented = claimRemainingBookings(subscriptionId, 1);
+        if (!decremented) {
+            log.warn("Cannot decrement: no remaining bookings for subscription {}", subscriptionId);
+        }
+        return decremented;
     }
 
     @Override
     @Transactional
-    public void decrementRemainingBookings(Integer subscriptionId) {
-        userSubscriptionRepository.findById(subscriptionId).ifPresent(sub -> {
-            if (sub.getRemainingBookings() <= 0) {
-                log.warn("Cannot decrement: no remaining bookings for subscription {}", subscriptionId);
-                return;
-            }
-
-            sub.setRemainingBookings(sub.getRemainingBookings() - 1);
-            userSubscriptionRepository.save(sub);
-            log.debug("Decremented remaining bookings for subscription id={}. Remaining: {}",
-                    subscriptionId, sub.getRemainingBookings());
-        });
+    public boolean claimRemainingBookings(Integer subscriptionId, int count) {
+        boolean claimed = userSubscriptionRepository.decrementRemainingBookingsIfAvailable(subscriptionId, count) > 0;
+        if (claimed) {
+            serviceMetrics.incrementAfterCommit(BOOKINGS_METRIC_NAME, "claim", ServiceMetrics.SUCCESS);
+        } else {
+            serviceMetrics.increment(BOOKINGS_METRIC_NAME, "claim", "no_remaining_bookings");
+        }
+        log.debug("Claim of {} bookings from subscription id={} succeeded={}", count, subscriptionId, claimed);
+        return claimed;
+    }
+
+    @Override
+    public int expireSubscriptions(LocalDateTime now, int chunkSize) {
+        log.debug("Expiring subscriptions before: {}, chunkSize={}", now, chunkSize);
+        subscriptionRepository.insertMissingExpiredSubscriptions(now);
+        int total = 0;
+        int chunks = 0;
+        int updated;
+        do {
+            updated = userSubscriptionRepository.expireActiveSubscriptionsBefore(now, chunkSize);
+            total += updated;
+            chunks++;
+        } while (updated == chunkSize);
+        serviceMetrics.increment(EXPIRED_METRIC_NAME, "sweep", ServiceMetrics.SUCCESS, total);
+        log.debug("Expired {} subscriptions in {} chunks", total, chunks);
+        return total;
     }
 
     private void validateActiveSubscription(String userEmail) {
@@ -228,17 +259,19 @@ public class UserSubscriptionServiceImpl implements UserSubscriptionService {
         entity.setUser(user);
         entity.setSubscription(subscription);
         entity.setAssignedAt(LocalDateTime.now());
+        entity.setExpiresAt(calculateExpiresAt(entity.getAssignedAt(), subscription));
         entity.setRemainingBookings(subscription.getSubscriptionType().getMaxBookingsPerMonth());
         return entity;
     }
 
-    private boolean isSubscriptionExpired(UserSubscription subscription) {
-        LocalDateTime expirationDate = subscription.getAssignedAt()
-                .plusDays(subscription.getSubscription().getSubscriptionType().getDurationDays());
+    private LocalDateTime calculateExpiresAt(LocalDateTime assignedAt, Subscription subscription) {
+        return assignedAt.plusDays(subscription.getSubscriptionType().getDurationDays());
+    }
 
-        boolean expired = expirationDate.isBefore(LocalDateTime.now());
-        log.debug("Subscription expired check: user={}, expired={}, expirationDate={}",
-                subscription.getUser().getEmail(), expired, expirationDate);
+    private boolean isSubscriptionExpired(UserSubscription subscription) {
+        boolean expired = subscription.getExpiresAt().isBefore(LocalDateTime.now());
+        log.debug("Subscription expired check: user={}, expired={}, expiresAt={}",
+                subscription.getUser().getEmail(), expired, subscription.getExpiresAt());
         return expired;
     }
 
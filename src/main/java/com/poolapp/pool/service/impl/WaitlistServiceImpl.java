@@ -0,0 +1,102 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.WaitlistEntryDTO;
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.exception.EntityAlreadyExistsException;
+import com.poolapp.pool.exception.ModelNotFoundException;
+import com.poolapp.pool.mapper.WaitlistEntryMapper;
+import com.poolapp.pool.model.WaitlistEntry;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.WaitlistEntryRepository;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.BookingContextBuilder;
+import com.poolapp.pool.util.exception.ApiErrorCode;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistEntryMapper waitlistEntryMapper;
+    private final BookingContextBuilder bookingContextBuilder;
+
+    @Transactional
+    @Override
+    public WaitlistEntryDTO joinWaitlist(WaitlistEntryDTO waitlistEntryDTO) {
+        log.debug("Joining waitlist: user={}, session={}", waitlistEntryDTO.getUserEmail(), waitlistEntryDTO.getSessionDTO());
+
+        BookingContext context = bookingContextBuilder.build(waitlistEntryDTO.getUserEmail(), waitlistEntryDTO.getSessionDTO());
+        validateCanJoin(context);
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setUser(context.getUser());
+        entry.setSession(context.getSession());
+        entry.setCreatedAt(LocalDateTime.now());
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+
+        long position = waitlistEntryRepository.countBySessionId(context.getSession().getId());
+        log.info("User {} joined waitlist for session id={} at position {}", waitlistEntryDTO.getUserEmail(), context.getSession().getId(), position);
+        return waitlistEntryMapper.toDto(saved, position);
+    }
+
+    @Transactional
+    @Override
+    public void leaveWaitlist(WaitlistEntryDTO waitlistEntryDTO) {
+        log.debug("Leaving waitlist: user={}, session={}", waitlistEntryDTO.getUserEmail(), waitlistEntryDTO.getSessionDTO());
+
+        BookingContext context = bookingContextBuilder.build(waitlistEntryDTO.getUserEmail(), waitlistEntryDTO.getSessionDTO());
+        WaitlistEntry entry = waitlistEntryRepository.findByUserIdAndSessionId(context.getUser().getId(), context.getSession().getId())
+                .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND,
+                        String.format("Waitlist entry not found: user=%s, session id=%s", waitlistEntryDTO.getUserEmail(), context.getSession().getId())));
+
+        waitlistEntryRepository.delete(entry);
+        log.info("User {} left waitlist for session id={}", waitlistEntryDTO.getUserEmail(), context.getSession().getId());
+    }
+
+    @Override
+    public Optional<WaitlistEntry> findNextForPromotion(Integer sessionId) {
+        return waitlistEntryRepository.findNextForUpdate(sessionId);
+    }
+
+    @Override
+    public void removeEntry(WaitlistEntry entry) {
+        waitlistEntryRepository.deleteEntryById(entry.getId());
+    }
+
+    @Override
+    public void removeUserFromWaitlists(Integer userId, Collection<Integer> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        int removed = waitlistEntryRepository.deleteByUserIdAndSessionIds(userId, sessionIds);
+        if (removed > 0) {
+            log.debug("Removed {} waitlist entries of booked user id={}", removed, userId);
+        }
+    }
+
+    private void validateCanJoin(BookingContext context) {
+        boolean alreadyBooked = context.getExistingBooking()
+                .filter(booking -> booking.getStatus() == BookingStatus.ACTIVE)
+                .isPresent();
+        if (alreadyBooked) {
+            throw new EntityAlreadyExistsException(String.format(ErrorMessages.ALREADY_ACTIVE, context.getUser().getId()));
+        }
+        if (context.getSession().getCurrentCapacity() > 0) {
+            throw new BadRequestException("Session still has free places, book it directly");
+        }
+        if (waitlistEntryRepository.existsByUserIdAndSessionId(context.getUser().getId(), context.getSession().getId())) {
+            throw new EntityAlreadyExistsException(ApiErrorCode.ALREADY_EXISTS, "Waitlist entry", context.getUser().getEmail());
+        }
+    }
+}
@@ -1,7 +1,29 @@
 package com.poolapp.pool.service.impl.validation;
 
 import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.util.BookingContext;
 
 public interface BookingValidator {
-    void validate(BookingDTO dto);
+
+    /**
+     * Validates the request against the already loaded context.
+     * Implementations should rely on the context rather than query the database.
+     */
+    void validate(BookingDTO dto, BookingContext context);
+
+    /**
+     * Whether the validator needs a database round trip that the context can't answer.
+     * Such validators run after all in-memory ones.
+     */
+    default boolean requiresDatabase() {
+        return false;
+    }
+
+    /**
+     * Whether the validator checks free places in the session.
+     * Callers that claim the seat with an atomic update can skip it.
+     */
+    default boolean checksCapacity() {
+        return false;
+    }
 }
@@ -0,0 +1,34 @@
+package com.poolapp.pool.service.impl.validation;
+
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.util.BookingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class CreateBookingValidationPipeline {
+
+    private final List<CreateBookingValidator> validators;
+
+    public CreateBookingValidationPipeline(List<CreateBookingValidator> validators) {
+        // stable sort: in-memory validators first, @Order is kept within each group
+        this.validators = validators.stream()
+                .sorted(Comparator.comparing(CreateBookingValidator::requiresDatabase))
+                .toList();
+    }
+
+    public void validate(BookingDTO bookingDTO, BookingContext context) {
+        validators.forEach(validator -> validator.validate(bookingDTO, context));
+    }
+
+    /**
+     * Validates everything except free places, for callers that reserve the seat atomically afterwards.
+     */
+    public void validateEligibility(BookingDTO bookingDTO, BookingContext context) {
+        validators.stream()
+                .filter(validator -> !validator.checksCapacity())
+                .forEach(validator -> validator.validate(bookingDTO, context));
+    }
+}
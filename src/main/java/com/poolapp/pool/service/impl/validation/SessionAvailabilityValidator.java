@@ -1,19 +1,25 @@
 package com.poolapp.pool.service.impl.validation;
 
 import com.poolapp.pool.dto.BookingDTO;
-import com.poolapp.pool.service.SessionService;
-import lombok.RequiredArgsConstructor;
+import com.poolapp.pool.exception.NoFreePlacesException;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.exception.ErrorMessages;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 @Order(2)
-public class SessionAvailabilityValidator implements BookingValidator {
-    private final SessionService sessionService;
+public class SessionAvailabilityValidator implements CreateBookingValidator {
 
     @Override
-    public void validate(BookingDTO bookingDTO) {
-        sessionService.validateSessionHasAvailableSpots(bookingDTO.getSessionDTO());
+    public void validate(BookingDTO bookingDTO, BookingContext context) {
+        if (context.getSession().getCurrentCapacity() <= 0) {
+            throw new NoFreePlacesException(ErrorMessages.NO_FREE_PLACES);
+        }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean checksCapacity() {
+        return true;
+    }
+}
@@ -1,7 +1,12 @@
 package com.poolapp.pool.service.impl.validation;
 
 import com.poolapp.pool.dto.BookingDTO;
-import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.exception.EntityAlreadyExistsException;
+import com.poolapp.pool.exception.UserSubscriptionExpiredException;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.exception.ErrorMessages;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -9,13 +14,27 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 @Order(3)
-public class UserSubscriptionValidator implements BookingValidator {
-    private final UserSubscriptionService userSubscriptionService;
+public class UserSubscriptionValidator implements CreateBookingValidator {
+    private final BookingRepository bookingRepository;
 
     @Override
-    public void validate(BookingDTO bookingDTO) {
-        if (bookingDTO.getUserSubscriptionDTO() != null) {
-            userSubscriptionService.validateUserSubscription(bookingDTO.getUserEmail());
+    public void validate(BookingDTO bookingDTO, BookingContext context) {
+        if (bookingDTO.getUserSubscriptionDTO() == null || context.getActiveSubscription().isPresent()) {
+            return;
         }
+
+        if (context.isSubscriptionExpired()) {
+            throw new UserSubscriptionExpiredException(ErrorMessages.USER_SUBSCRIPTION_EXPIRED);
+        }
+
+        long activeBookings = bookingRepository.countByUser_EmailAndStatus(bookingDTO.getUserEmail(), BookingStatus.ACTIVE);
+        if (activeBookings >= 1) {
+            throw new EntityAlreadyExistsException(ErrorMessages.ENTITY_ALREADY_EXISTS);
+        }
+    }
+
+    @Override
+    public boolean requiresDatabase() {
+        return true;
     }
-}
\ No newline at end of file
+}
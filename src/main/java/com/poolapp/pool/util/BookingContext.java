@@ -1,20 +1,32 @@
 package com.poolapp.pool.util;
 
+import com.poolapp.pool.model.Booking;
 import com.poolapp.pool.model.BookingId;
 import com.poolapp.pool.model.Session;
 import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.UserSubscription;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
+
 @RequiredArgsConstructor
 public class BookingContext {
 
     private final User user;
     private final Session session;
     private final BookingId bookingId;
+    private final UserSubscription activeSubscription;
+    private final Booking existingBooking;
+    private final boolean subscriptionExpired;
 
     public static BookingContext of(User user, Session session) {
+        return of(user, session, null, null, false);
+    }
+
+    public static BookingContext of(User user, Session session, UserSubscription activeSubscription,
+                                    Booking existingBooking, boolean subscriptionExpired) {
         BookingId id = new BookingId(user.getId(), session.getId());
-        return new BookingContext(user, session, id);
+        return new BookingContext(user, session, id, activeSubscription, existingBooking, subscriptionExpired);
     }
 
     public User getUser() {
@@ -28,5 +40,16 @@ public class BookingContext {
     public BookingId getBookingId() {
         return bookingId;
     }
-}
 
+    public Optional<UserSubscription> getActiveSubscription() {
+        return Optional.ofNullable(activeSubscription);
+    }
+
+    public Optional<Booking> getExistingBooking() {
+        return Optional.ofNullable(existingBooking);
+    }
+
+    public boolean isSubscriptionExpired() {
+        return subscriptionExpired;
+    }
+}
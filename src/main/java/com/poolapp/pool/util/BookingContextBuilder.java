@@ -3,34 +3,81 @@ package com.poolapp.pool.util;
 import com.poolapp.pool.dto.SessionDTO;
 import com.poolapp.pool.dto.requestDTO.RequestSessionDTO;
 import com.poolapp.pool.exception.ModelNotFoundException;
+import com.poolapp.pool.model.Booking;
 import com.poolapp.pool.model.Session;
 import com.poolapp.pool.model.User;
-import com.poolapp.pool.service.SessionService;
+import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.SessionRepository;
 import com.poolapp.pool.service.UserService;
+import com.poolapp.pool.service.UserSubscriptionService;
 import com.poolapp.pool.util.exception.ApiErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class BookingContextBuilder {
 
     private final UserService userService;
-    private final SessionService sessionService;
+    private final BookingRepository bookingRepository;
+    private final SessionRepository sessionRepository;
+    private final UserSubscriptionService userSubscriptionService;
+    private final SessionAvailabilityCache sessionAvailabilityCache;
 
     public BookingContext build(String userEmail, SessionDTO sessionDTO) {
+        List<Object[]> rows = bookingRepository.findBookingContextRows(
+                userEmail, sessionDTO.getPoolName(), sessionDTO.getStartTime(), SubscriptionStatus.ACTIVE, LocalDateTime.now());
+
+        if (rows.isEmpty()) {
+            throw notFound(userEmail, sessionDTO);
+        }
+
+        Object[] row = rows.get(0);
+        User user = (User) row[0];
+        Session session = (Session) row[1];
+        Booking existingBooking = (Booking) row[2];
+        UserSubscription activeSubscription = (UserSubscription) row[3];
+        boolean subscriptionExpired = activeSubscription == null && (Boolean) row[4];
+        sessionAvailabilityCache.put(session);
+
+        return BookingContext.of(user, session, activeSubscription, existingBooking, subscriptionExpired);
+    }
+
+    /**
+     * Builds contexts for several sessions of one user with a fixed number of queries.
+     * The result follows the order of {@code sessionDTOs}; sessions that don't exist are empty.
+     */
+    public List<Optional<BookingContext>> build(String userEmail, List<SessionDTO> sessionDTOs) {
         User user = userService.findUserByEmail(userEmail)
-                .orElseThrow(() -> new ModelNotFoundException(
-                        ApiErrorCode.NOT_FOUND, "User not found: " + userEmail));
+                .orElseThrow(() -> new ModelNotFoundException(ApiErrorCode.NOT_FOUND, "User not found: " + userEmail));
 
-        Session session = sessionService.getSessionByPoolNameAndStartTime(
-                        sessionDTO.getPoolName(), sessionDTO.getStartTime())
-                .orElseThrow(() -> new ModelNotFoundException(
-                        ApiErrorCode.NOT_FOUND,
-                        String.format("Session not found: pool=%s, startTime=%s",
-                                sessionDTO.getPoolName(), sessionDTO.getStartTime())));
+        Set<String> poolNames = sessionDTOs.stream().map(SessionDTO::getPoolName).collect(Collectors.toSet());
+        Set<LocalDateTime> startTimes = sessionDTOs.stream().map(SessionDTO::getStartTime).collect(Collectors.toSet());
+        Map<String, Session> sessionsBySlot = sessionRepository.findAllByPoolNamesAndStartTimes(poolNames, startTimes).stream()
+                .collect(Collectors.toMap(session -> slotKey(session.getPool().getName(), session.getStartTime()), Function.identity()));
 
-        return BookingContext.of(user, session);
+        Map<Integer, Booking> existingBySessionId = sessionsBySlot.isEmpty()
+                ? Map.of()
+                : bookingRepository.findByUserIdAndSessionIds(user.getId(), sessionsBySlot.values().stream().map(Session::getId).toList()).stream()
+                        .collect(Collectors.toMap(booking -> booking.getId().getSessionId(), Function.identity()));
+
+        UserSubscription activeSubscription = userSubscriptionService.findActiveSubscriptionForUser(userEmail).orElse(null);
+
+        return sessionDTOs.stream()
+                .map(dto -> Optional.ofNullable(sessionsBySlot.get(slotKey(dto.getPoolName(), dto.getStartTime())))
+                        .map(session -> BookingContext.of(user, session, activeSubscription,
+                                existingBySessionId.get(session.getId()), false)))
+                .toList();
     }
 
     public BookingContext build(String userEmail, RequestSessionDTO requestSessionDTO) {
@@ -40,4 +87,18 @@ public class BookingContextBuilder {
                 .build();
         return build(userEmail, sessionDTO);
     }
-}
\ No newline at end of file
+
+    private String slotKey(String poolName, LocalDateTime startTime) {
+        return poolName + "@" + startTime;
+    }
+
+    private ModelNotFoundException notFound(String userEmail, SessionDTO sessionDTO) {
+        if (userService.findUserByEmail(userEmail).isEmpty()) {
+            return new ModelNotFoundException(ApiErrorCode.NOT_FOUND, "User not found: " + userEmail);
+        }
+        return new ModelNotFoundException(
+                ApiErrorCode.NOT_FOUND,
+                String.format("Session not found: pool=%s, startTime=%s",
+                        sessionDTO.getPoolName(), sessionDTO.getStartTime()));
+    }
+}
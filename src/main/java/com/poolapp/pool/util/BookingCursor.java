@@ -0,0 +1,41 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in booking search results ordered by (session start time, session id, user id).
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookingCursor {
+
+    private final LocalDateTime startTime;
+    private final Integer sessionId;
+    private final Integer userId;
+
+    public static BookingCursor after(BookingSearchRow row) {
+        return new BookingCursor(row.getStartTime(), row.getSessionId(), row.getUserId());
+    }
+
+    public static BookingCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new BookingCursor(LocalDateTime.parse(parts[0]), Integer.valueOf(parts[1]), Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid booking search cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = startTime + "|" + sessionId + "|" + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@Slf4j
+public class BookingExpiryJob {
+
+    private final BookingService bookingService;
+    private final int chunkSize;
+
+    public BookingExpiryJob(BookingService bookingService,
+                            @Value("${booking-expiry.chunk-size:1000}") int chunkSize) {
+        this.bookingService = bookingService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${booking-expiry.cron:0 0 * * * *}")
+    public void expirePastBookings() {
+        long started = System.nanoTime();
+        int expired = bookingService.expirePastBookings(LocalDateTime.now(), chunkSize);
+        log.info("Booking expiry job completed {} bookings in {} ms", expired, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,98 @@
+package com.poolapp.pool.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poolapp.pool.mapper.BookingMapper;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes booking rows to the response one at a time, so nothing but the current row is held in memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingExportWriter {
+
+    private static final String[] CSV_HEADER = {"userEmail", "poolName", "startTime", "endTime", "bookingTime",
+            "status", "subscriptionType", "subscriptionStatus"};
+
+    private final ObjectMapper objectMapper;
+    private final BookingMapper bookingMapper;
+
+    public long write(Stream<BookingSearchRow> rows, BookingExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            long count = switch (format) {
+                case CSV -> writeCsv(rows.iterator(), writer);
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+            };
+            writer.flush();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeCsv(Iterator<BookingSearchRow> rows, Writer writer) throws IOException {
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        long count = 0;
+        while (rows.hasNext()) {
+            BookingSearchRow row = rows.next();
+            writeCsvLine(writer, row.getUserEmail(), row.getPoolName(), row.getStartTime(), row.getEndTime(),
+                    row.getBookingTime(), row.getStatus(), row.getSubscriptionTypeName(), row.getSubscriptionStatus());
+            count++;
+        }
+        return count;
+    }
+
+    private long writeNdjson(Iterator<BookingSearchRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            objectMapper.writeValue(generator, bookingMapper.toDto(rows.next()));
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDateTime dateTime
+                ? dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
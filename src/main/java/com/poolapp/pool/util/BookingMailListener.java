@@ -1,26 +1,21 @@
 package com.poolapp.pool.util;
 
-import com.poolapp.pool.service.MailService;
+import com.poolapp.pool.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class BookingMailListener {
 
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * Runs inside the booking transaction, so the confirmation is queued if and only if the booking commits.
+     */
+    @EventListener
     public void onBookingCreated(BookingCreatedEvent event) {
-        try {
-            mailService.sendBookingConfirmationEmail(event.userEmail(), event.sessionDTO());
-            log.debug("Booking confirmation email sent to {}", event.userEmail());
-        } catch (Exception e) {
-            log.error("Failed to send booking confirmation to {}: {}", event.userEmail(), e.getMessage(), e);
-        }
+        mailOutboxService.enqueueBookingConfirmation(event.userEmail(), event.sessionDTO());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.poolapp.pool.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private Duration ttl = Duration.ofHours(24);
+    private long maxEntries = 10_000;
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private int maxKeyLength = 255;
+
+}
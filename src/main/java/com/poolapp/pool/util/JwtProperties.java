@@ -13,5 +13,8 @@ public class JwtProperties {
     private Long accessTokenExpirationMs;
     private Long refreshTokenExpirationMs;
     private String signingKey;
+    private long claimsCacheMaxEntries = 10_000;
+    private boolean claimsOnlyAuth = false;
+    private long revocationListMaxEntries = 10_000;
 
 }
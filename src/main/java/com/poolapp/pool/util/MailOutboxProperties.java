@@ -0,0 +1,23 @@
+package com.poolapp.pool.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail-outbox")
+public class MailOutboxProperties {
+    private int batchSize = 50;
+    private int workers = 4;
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration lease = Duration.ofMinutes(5);
+    private Duration sentRetention = Duration.ofDays(7);
+
+}
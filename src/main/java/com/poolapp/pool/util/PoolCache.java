@@ -0,0 +1,155 @@
+package com.poolapp.pool.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.PoolSchedule;
+import com.poolapp.pool.repository.PoolRepository;
+import com.poolapp.pool.repository.PoolScheduleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache of pools by name and schedules by pool id. Cached entities are detached and shared, so callers
+ * must not modify them. A pool change sends a NOTIFY inside its transaction; every node, this one included, drops the
+ * whole cache when it arrives, and this node also drops it right after its own commit.
+ */
+@Component
+@Slf4j
+public class PoolCache {
+
+    private static final String CHANNEL = "pool_cache";
+    private static final int POLL_TIMEOUT_MS = 1000;
+
+    private final PoolRepository poolRepository;
+    private final PoolScheduleRepository poolScheduleRepository;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean notifyEnabled;
+    private final Duration reconnectDelay;
+    private final Cache<String, Pool> poolsByName;
+    private final Cache<Integer, List<PoolSchedule>> schedulesByPoolId;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PoolCache(PoolRepository poolRepository,
+                     PoolScheduleRepository poolScheduleRepository,
+                     DataSource dataSource,
+                     JdbcTemplate jdbcTemplate,
+                     MeterRegistry meterRegistry,
+                     @Value("${pool-cache.ttl:PT1H}") Duration ttl,
+                     @Value("${pool-cache.max-entries:1000}") long maxEntries,
+                     @Value("${pool-cache.notify-enabled:true}") boolean notifyEnabled,
+                     @Value("${pool-cache.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.poolRepository = poolRepository;
+        this.poolScheduleRepository = poolScheduleRepository;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.notifyEnabled = notifyEnabled;
+        this.reconnectDelay = reconnectDelay;
+        this.poolsByName = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        this.schedulesByPoolId = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, poolsByName, "pools");
+        CaffeineCacheMetrics.monitor(meterRegistry, schedulesByPoolId, "poolSchedules");
+    }
+
+    public Optional<Pool> getByName(String name) {
+        return Optional.ofNullable(poolsByName.get(name, key -> poolRepository.findByName(key).orElse(null)));
+    }
+
+    public List<PoolSchedule> getSchedules(Integer poolId) {
+        return schedulesByPoolId.get(poolId, key -> List.copyOf(poolScheduleRepository.findByPoolId(key)));
+    }
+
+    public void invalidateAll() {
+        poolsByName.invalidateAll();
+        schedulesByPoolId.invalidateAll();
+    }
+
+    /**
+     * Postgres delivers the notification only if the transaction commits, so other nodes never drop their cache for
+     * a change that was rolled back.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void notifyPoolChanged(PoolChangedEvent event) {
+        if (notifyEnabled) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, event.poolName());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPoolChanged(PoolChangedEvent event) {
+        invalidateAll();
+    }
+
+    @PostConstruct
+    public void startListener() {
+        if (!notifyEnabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "pool-cache-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stopListener() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * Holds one pooled connection for LISTEN. After a reconnect the cache is cleared because notifications sent while
+     * disconnected are lost.
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                invalidateAll();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null && notifications.length > 0) {
+                        invalidateAll();
+                        log.debug("Pool cache cleared after change of pool '{}'", notifications[notifications.length - 1].getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Pool cache listener lost its connection, retrying in {}", reconnectDelay, e);
+                invalidateAll();
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
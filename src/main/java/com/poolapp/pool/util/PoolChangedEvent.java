@@ -0,0 +1,4 @@
+package com.poolapp.pool.util;
+
+public record PoolChangedEvent(String poolName) {
+}
@@ -0,0 +1,48 @@
+package com.poolapp.pool.util;
+
+import lombok.Getter;
+
+/**
+ * Database work done on behalf of the current HTTP request. {@link RequestQueryStatsFilter} binds an instance to the
+ * request thread and the Hibernate listeners add to it; work done outside a request is not counted.
+ */
+@Getter
+public class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long flushNanos;
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void flushed(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.flushNanos += nanos;
+        }
+    }
+}
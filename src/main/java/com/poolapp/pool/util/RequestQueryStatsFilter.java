@@ -0,0 +1,146 @@
+package com.poolapp.pool.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements, entity loads and flush time of each request and records them per controller method.
+ * Requests over {@code request-stats.query-budget} statements are logged. With {@code request-stats.headers-enabled}
+ * (the {@code debug} profile) the numbers are also returned as response headers, which means buffering the body of
+ * every response that is not streamed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestQueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Loads";
+    public static final String FLUSH_TIME_HEADER = "X-Flush-Time-Ms";
+
+    private final RequestQueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    /**
+     * Responses that go async, such as streamed exports, are neither buffered nor reported: their body and
+     * statements come from another thread after this dispatch has returned.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = properties.isHeadersEnabled()
+                ? new ConditionalContentCachingResponseWrapper(request, response)
+                : null;
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            RequestQueryStats.clear();
+            if (!request.isAsyncStarted()) {
+                report(request, stats);
+                if (bufferedResponse != null) {
+                    bufferedResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatements()));
+                    bufferedResponse.setHeader(ENTITY_LOADS_HEADER, String.valueOf(stats.getEntityLoads()));
+                    bufferedResponse.setHeader(FLUSH_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getFlushNanos())));
+                    bufferedResponse.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        String handler = handlerName(request);
+        summary("request.jdbc.statements", handler).record(stats.getStatements());
+        summary("request.entity.loads", handler).record(stats.getEntityLoads());
+        Timer.builder("request.flush")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getFlushNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > properties.getQueryBudget()) {
+            log.warn("{} {} ({}) ran {} statements, over the budget of {}; entity loads={}, flush={} ms",
+                    request.getMethod(), request.getRequestURI(), handler, stats.getStatements(), properties.getQueryBudget(),
+                    stats.getEntityLoads(), TimeUnit.NANOSECONDS.toMillis(stats.getFlushNanos()));
+        }
+    }
+
+    private DistributionSummary summary(String name, String handler) {
+        return DistributionSummary.builder(name)
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String handlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+
+    /**
+     * Leaves the body unbuffered once the handler disables content caching for a streamed response, the way
+     * {@link ShallowEtagHeaderFilter} does.
+     */
+    private static final class ConditionalContentCachingResponseWrapper extends ContentCachingResponseWrapper {
+
+        /** Set by {@link ShallowEtagHeaderFilter#disableContentCaching} before the body is handed to an async task. */
+        private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+        private final HttpServletRequest request;
+
+        ConditionalContentCachingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        private boolean isStreaming() {
+            return request.getAttribute(STREAMING_ATTRIBUTE) != null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.poolapp.pool.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "request-stats")
+public class RequestQueryStatsProperties {
+    private boolean enabled = true;
+    private boolean headersEnabled = false;
+    private int queryBudget = 20;
+
+}
@@ -0,0 +1,32 @@
+package com.poolapp.pool.util;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Created by Hibernate for every session through {@code hibernate.session.events.auto}, so it needs a public
+ * no-arg constructor and reports into {@link RequestQueryStats} instead of holding dependencies.
+ */
+public class RequestQueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long flushStarted;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestQueryStats.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestQueryStats.statementExecuted();
+    }
+
+    @Override
+    public void flushStart() {
+        flushStarted = System.nanoTime();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestQueryStats.flushed(System.nanoTime() - flushStarted);
+    }
+}
@@ -0,0 +1,96 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.exception.BookingAlreadyActiveException;
+import com.poolapp.pool.exception.BookingStatusNotActiveException;
+import com.poolapp.pool.exception.EntityAlreadyExistsException;
+import com.poolapp.pool.exception.ModelNotFoundException;
+import com.poolapp.pool.exception.NoFreePlacesException;
+import com.poolapp.pool.exception.NoRemainingBookingsException;
+import com.poolapp.pool.exception.SessionOverlapException;
+import com.poolapp.pool.exception.UserSubscriptionExpiredException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times service operations as {@code <name>{operation, outcome}}. The outcome is {@code success} or derived from the
+ * business exception that ended the call, so rejected bookings can be told apart from failures.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceMetrics {
+
+    public static final String SUCCESS = "success";
+
+    private static final Map<Class<? extends Throwable>, String> OUTCOMES = Map.of(
+            NoFreePlacesException.class, "no_free_places",
+            EntityAlreadyExistsException.class, "duplicate",
+            BookingAlreadyActiveException.class, "duplicate",
+            UserSubscriptionExpiredException.class, "expired_subscription",
+            NoRemainingBookingsException.class, "no_remaining_bookings",
+            BookingStatusNotActiveException.class, "not_active",
+            SessionOverlapException.class, "overlap",
+            ModelNotFoundException.class, "not_found"
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String name, String operation, Supplier<T> action) {
+        long started = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = OUTCOMES.getOrDefault(e.getClass(), "error");
+            throw e;
+        } finally {
+            timer(name, operation, outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void record(String name, String operation, Runnable action) {
+        record(name, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void increment(String name, String operation, String outcome) {
+        increment(name, operation, outcome, 1);
+    }
+
+    public void increment(String name, String operation, String outcome, double amount) {
+        meterRegistry.counter(name, "operation", operation, "outcome", outcome).increment(amount);
+    }
+
+    /**
+     * Counts the event once the surrounding transaction commits; nothing is counted on rollback.
+     */
+    public void incrementAfterCommit(String name, String operation, String outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(name, operation, outcome);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(name, operation, outcome);
+            }
+        });
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
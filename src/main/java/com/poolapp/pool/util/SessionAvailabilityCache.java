@@ -0,0 +1,105 @@
+package com.poolapp.pool.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.model.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Remaining seats per session, kept in memory for sold-out checks and availability displays.
+ * The conditional update in the database stays authoritative; changes made inside a transaction
+ * are applied after commit and the entry is dropped on rollback.
+ */
+@Component
+public class SessionAvailabilityCache {
+
+    private final Cache<Integer, AtomicInteger> seatsBySessionId;
+    private final Cache<String, Integer> sessionIdBySlot;
+
+    public SessionAvailabilityCache(@Value("${session-availability.ttl:PT30S}") Duration ttl,
+                                    @Value("${session-availability.max-entries:10000}") long maxEntries) {
+        this.seatsBySessionId = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        this.sessionIdBySlot = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    public OptionalInt getRemainingSeats(String poolName, LocalDateTime startTime) {
+        Integer sessionId = sessionIdBySlot.getIfPresent(slotKey(poolName, startTime));
+        return sessionId == null ? OptionalInt.empty() : getRemainingSeats(sessionId);
+    }
+
+    public OptionalInt getRemainingSeats(Integer sessionId) {
+        AtomicInteger seats = seatsBySessionId.getIfPresent(sessionId);
+        return seats == null ? OptionalInt.empty() : OptionalInt.of(seats.get());
+    }
+
+    /**
+     * Seeds the counter from a loaded session. An existing counter is kept, since the snapshot may be read
+     * inside a transaction that hasn't committed and would overwrite changes applied after other commits.
+     * A sold-out snapshot is not seeded at all: a release committed after it was read finds no counter to
+     * update, so only a committed reservation may bring a counter to 0.
+     */
+    public void put(Session session) {
+        sessionIdBySlot.put(slotKey(session.getPool().getName(), session.getStartTime()), session.getId());
+        if (session.getCurrentCapacity() > 0) {
+            seatsBySessionId.asMap().putIfAbsent(session.getId(), new AtomicInteger(session.getCurrentCapacity()));
+        }
+    }
+
+    public void seatReserved(Integer sessionId) {
+        afterCommit(sessionId, () -> update(sessionId, seats -> seats.getAndUpdate(value -> Math.max(value - 1, 0))));
+    }
+
+    public void seatReleased(Integer sessionId) {
+        afterCommit(sessionId, () -> update(sessionId, AtomicInteger::incrementAndGet));
+    }
+
+    /**
+     * A failed reservation drops the counter rather than pinning it to 0: a seat may have been released
+     * between the failed update and this commit, so the next read re-seeds from the database.
+     */
+    public void soldOut(Integer sessionId) {
+        afterCommit(sessionId, () -> seatsBySessionId.invalidate(sessionId));
+    }
+
+    public void invalidate(Integer sessionId) {
+        seatsBySessionId.invalidate(sessionId);
+        sessionIdBySlot.asMap().values().removeIf(sessionId::equals);
+    }
+
+    private void update(Integer sessionId, Consumer<AtomicInteger> change) {
+        AtomicInteger seats = seatsBySessionId.getIfPresent(sessionId);
+        if (seats != null) {
+            change.accept(seats);
+        }
+    }
+
+    private void afterCommit(Integer sessionId, Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    change.run();
+                } else {
+                    seatsBySessionId.invalidate(sessionId);
+                }
+            }
+        });
+    }
+
+    private String slotKey(String poolName, LocalDateTime startTime) {
+        return poolName + "@" + startTime;
+    }
+}
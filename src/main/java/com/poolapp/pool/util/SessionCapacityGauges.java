@@ -0,0 +1,44 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.repository.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Publishes {@code session.remaining.capacity{pool, start_time}} for every session starting within the configured
+ * window. The gauges are refreshed on a schedule, so sessions drop out once they start.
+ */
+@Component
+public class SessionCapacityGauges {
+
+    private final SessionRepository sessionRepository;
+    private final MultiGauge remainingCapacity;
+    private final Duration window;
+
+    public SessionCapacityGauges(SessionRepository sessionRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${session-capacity-gauges.window:PT24H}") Duration window) {
+        this.sessionRepository = sessionRepository;
+        this.window = window;
+        this.remainingCapacity = MultiGauge.builder("session.remaining.capacity")
+                .description("Seats left in sessions starting soon")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${session-capacity-gauges.refresh-interval:PT30S}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        remainingCapacity.register(sessionRepository.findCapacitiesStartingBetween(now, now.plus(window)).stream()
+                .<MultiGauge.Row<?>>map(session -> MultiGauge.Row.of(
+                        Tags.of("pool", session.getPoolName(), "start_time", session.getStartTime().toString()),
+                        session.getCurrentCapacity()))
+                .toList(), true);
+    }
+}
@@ -0,0 +1,63 @@
+package com.poolapp.pool.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poolapp.pool.model.Subscription;
+import com.poolapp.pool.model.SubscriptionType;
+import com.poolapp.pool.model.enums.SubscriptionStatus;
+import com.poolapp.pool.repository.SubscriptionRepository;
+import com.poolapp.pool.repository.SubscriptionTypeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of subscription types by name and subscriptions by (type name, status). The catalogue is
+ * cleared once an admin change commits; missing entries are not cached so newly created rows are found on the next
+ * lookup. Cached entities are detached and shared, so callers must not modify them.
+ */
+@Component
+public class SubscriptionCatalogue {
+
+    private final SubscriptionTypeRepository subscriptionTypeRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final Cache<String, SubscriptionType> typesByName;
+    private final Cache<SubscriptionKey, Subscription> subscriptionsByKey;
+
+    public SubscriptionCatalogue(SubscriptionTypeRepository subscriptionTypeRepository,
+                                 SubscriptionRepository subscriptionRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${subscription-catalogue.ttl:PT1H}") Duration ttl,
+                                 @Value("${subscription-catalogue.max-entries:1000}") long maxEntries) {
+        this.subscriptionTypeRepository = subscriptionTypeRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.typesByName = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        this.subscriptionsByKey = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, typesByName, "subscriptionTypes");
+        CaffeineCacheMetrics.monitor(meterRegistry, subscriptionsByKey, "subscriptions");
+    }
+
+    public Optional<SubscriptionType> findType(String name) {
+        return Optional.ofNullable(typesByName.get(name, key -> subscriptionTypeRepository.findByName(key).orElse(null)));
+    }
+
+    public Optional<Subscription> findSubscription(String typeName, SubscriptionStatus status) {
+        return Optional.ofNullable(subscriptionsByKey.get(new SubscriptionKey(typeName, status),
+                key -> subscriptionRepository.findBySubscriptionTypeNameAndStatus(key.typeName(), key.status()).orElse(null)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogueChanged(SubscriptionCatalogueChangedEvent event) {
+        typesByName.invalidateAll();
+        subscriptionsByKey.invalidateAll();
+    }
+
+    private record SubscriptionKey(String typeName, SubscriptionStatus status) {
+    }
+}
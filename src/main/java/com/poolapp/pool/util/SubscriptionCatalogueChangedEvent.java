@@ -0,0 +1,4 @@
+package com.poolapp.pool.util;
+
+public record SubscriptionCatalogueChangedEvent(String subscriptionTypeName) {
+}
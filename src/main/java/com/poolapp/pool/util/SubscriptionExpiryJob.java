@@ -0,0 +1,30 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.service.UserSubscriptionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@Slf4j
+public class SubscriptionExpiryJob {
+
+    private final UserSubscriptionService userSubscriptionService;
+    private final int chunkSize;
+
+    public SubscriptionExpiryJob(UserSubscriptionService userSubscriptionService,
+                                 @Value("${subscription-expiry.chunk-size:1000}") int chunkSize) {
+        this.userSubscriptionService = userSubscriptionService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${subscription-expiry.cron:0 */15 * * * *}")
+    public void expireSubscriptions() {
+        long started = System.nanoTime();
+        int expired = userSubscriptionService.expireSubscriptions(LocalDateTime.now(), chunkSize);
+        log.info("Subscription expiry job completed {} subscriptions in {} ms", expired, (System.nanoTime() - started) / 1_000_000);
+    }
+}
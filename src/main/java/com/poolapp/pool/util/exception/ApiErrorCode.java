@@ -17,6 +17,7 @@ public enum ApiErrorCode {
     VALIDATION_ERROR("VALIDATION_ERROR"),
 
     TIME_CONFLICT("TIME_CONFLICT"),
+    IDEMPOTENCY_CONFLICT("IDEMPOTENCY_CONFLICT", HttpStatus.CONFLICT),
 
     INTERNAL_ERROR("INTERNAL_ERROR"),
     SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE"),
@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 public final class ApiErrorMessages {
     private static final Map<String, String> messages = Stream.of(new String[][]{
             {"TIME_CONFLICT", "Time conflict: overlapping session already exists"},
+            {"IDEMPOTENCY_CONFLICT", "Request conflicts with an earlier request using the same Idempotency-Key"},
             {"EMAIL_IS_TAKEN", "Email '%s' is already registered"},
             {"INVALID_CREDENTIALS", "Invalid email or password"},
             {"POOL_NOT_FOUND", "Pool with ID %s not found"},
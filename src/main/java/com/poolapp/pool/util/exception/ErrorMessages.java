@@ -22,4 +22,10 @@ public final class ErrorMessages {
     public static final String ACCESS_DENIED_ADMIN_MODIFYING_SELF_ROLE = "ACCESS_DENIED: Admin ID={} attempted to modify their own role";
     public static final String ACCESS_DENIED_USER_MODIFYING_OTHER = "ACCESS_DENIED: User ID={} tried to modify another user (email=<redacted>) without permission";
     public static final String ENTITY_ALREADY_EXISTS = "Entity with ID %s already exists";
+    public static final String IDEMPOTENCY_KEY_INVALID = "Idempotency-Key must be non-blank and at most %d characters";
+    public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used with a different request";
+    public static final String IDEMPOTENCY_KEY_IN_PROGRESS = "A request with the same Idempotency-Key is still in progress";
+    public static final String PASSWORD_HASHING_SATURATED = "Too many password checks in progress, retry shortly";
+    public static final String NO_REMAINING_BOOKINGS = "Subscription has no remaining bookings this month";
+    public static final String SESSION_OVERLAP = "Session overlaps an existing session of pool '%s'";
 }
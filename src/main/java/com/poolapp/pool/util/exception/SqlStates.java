@@ -0,0 +1,22 @@
+package com.poolapp.pool.util.exception;
+
+import lombok.experimental.UtilityClass;
+
+import java.sql.SQLException;
+
+@UtilityClass
+public final class SqlStates {
+    public static final String EXCLUSION_VIOLATION = "23P01";
+
+    /**
+     * Whether any {@link SQLException} in the cause chain carries the given SQLSTATE.
+     */
+    public boolean hasSqlState(Throwable error, String sqlState) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlState.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+CREATE TABLE idempotency_record
+(
+    idempotency_key VARCHAR(512) PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_body   TEXT         NOT NULL,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
@@ -0,0 +1,10 @@
+CREATE TABLE waitlist_entry
+(
+    id         SERIAL PRIMARY KEY,
+    user_id    INTEGER   NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    session_id INTEGER   NOT NULL REFERENCES session (id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (user_id, session_id)
+);
+
+CREATE INDEX idx_waitlist_entry_session_queue ON waitlist_entry (session_id, created_at, id);
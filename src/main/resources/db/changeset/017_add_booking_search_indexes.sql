@@ -0,0 +1,3 @@
+CREATE INDEX idx_session_start_time_id ON session (start_time, id);
+
+CREATE INDEX idx_booking_session_id ON booking (session_id);
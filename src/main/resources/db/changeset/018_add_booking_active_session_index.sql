@@ -0,0 +1 @@
+CREATE INDEX idx_booking_active_session_id ON booking (session_id) WHERE status = 'ACTIVE';
@@ -0,0 +1,19 @@
+CREATE TYPE mail_type AS ENUM ('BOOKING_CONFIRMATION');
+CREATE TYPE mail_outbox_status AS ENUM ('PENDING', 'SENT', 'DEAD');
+
+CREATE TABLE mail_outbox
+(
+    id              BIGSERIAL PRIMARY KEY,
+    mail_type       mail_type          NOT NULL,
+    recipient       VARCHAR(255)       NOT NULL,
+    payload         TEXT               NOT NULL,
+    status          mail_outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER            NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP          NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    created_at      TIMESTAMP          NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at         TIMESTAMP
+);
+
+CREATE INDEX idx_mail_outbox_pending ON mail_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_mail_outbox_sent_at ON mail_outbox (sent_at) WHERE status = 'SENT';
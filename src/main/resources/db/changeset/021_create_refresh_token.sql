@@ -0,0 +1,10 @@
+CREATE TABLE refresh_token
+(
+    token_hash    VARCHAR(64) PRIMARY KEY,
+    user_id       INTEGER   NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    token_version INTEGER   NOT NULL,
+    expires_at    TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_refresh_token_user_id ON refresh_token (user_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE session
+    ADD COLUMN time_range TSRANGE GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED;
+
+ALTER TABLE session
+    ADD CONSTRAINT session_no_overlap EXCLUDE USING gist (pool_id WITH =, time_range WITH &&);
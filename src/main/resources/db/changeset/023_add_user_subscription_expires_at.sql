@@ -0,0 +1,19 @@
+ALTER TABLE user_subscription
+    ADD COLUMN expires_at TIMESTAMP;
+
+UPDATE user_subscription us
+SET expires_at = COALESCE(us.assigned_at, CURRENT_TIMESTAMP) + st.duration_days * INTERVAL '1 day'
+FROM subscription s
+         JOIN subscription_type st ON st.id = s.subscription_type_id
+WHERE s.id = us.subscription_id;
+
+UPDATE user_subscription
+SET expires_at = COALESCE(assigned_at, CURRENT_TIMESTAMP)
+WHERE expires_at IS NULL;
+
+ALTER TABLE user_subscription
+    ALTER COLUMN expires_at SET NOT NULL;
+
+COMMENT ON COLUMN user_subscription.expires_at IS 'Момент окончания подписки. Записи без подписки или её типа не имеют длительности, поэтому заполняются моментом назначения и считаются истёкшими';
+
+CREATE INDEX idx_user_subscription_user_expires ON user_subscription (user_id, expires_at);
@@ -0,0 +1 @@
+CREATE INDEX idx_user_subscription_subscription_expires ON user_subscription (subscription_id, expires_at);
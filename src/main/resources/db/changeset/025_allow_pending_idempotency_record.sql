@@ -0,0 +1,2 @@
+ALTER TABLE idempotency_record
+    ALTER COLUMN response_body DROP NOT NULL;
@@ -0,0 +1,196 @@
+package com.poolapp.pool.security;
+
+import com.poolapp.pool.exception.InvalidTokenException;
+import com.poolapp.pool.model.Role;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.enums.RoleType;
+import com.poolapp.pool.util.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    private static final String SIGNING_KEY = "9vJsoj+ls24tEyJS0PV64P3pNuNJvsG5fxjKrfstPqU=";
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private JwtProperties properties;
+    private TokenRevocationList revocationList;
+    private MutableClock clock;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSigningKey(SIGNING_KEY);
+        properties.setAccessTokenExpirationMs(900_000L);
+        properties.setRefreshTokenExpirationMs(604_800_000L);
+        revocationList = new TokenRevocationList(properties);
+        clock = new MutableClock(Instant.parse("2030-01-07T09:00:00Z"));
+        jwtService = new JwtService(properties, revocationList, refreshTokenStore, clock);
+        jwtService.init();
+    }
+
+    @Test
+    void test_parseClaims_shouldReturnCachedClaimsForSameToken() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 0)));
+
+        Claims first = jwtService.parseClaims(token);
+
+        assertSame(first, jwtService.parseClaims(token));
+        assertEquals("user@example.com", first.getSubject());
+    }
+
+    @Test
+    void test_parseClaims_shouldStopServingCachedClaimsOnceTokenExpires() {
+        properties.setAccessTokenExpirationMs(60_000L);
+        String token = jwtService.generateAccessToken(userDetails(user(1, 0)));
+        Claims claims = jwtService.parseClaims(token);
+
+        clock.advance(Duration.ofSeconds(59));
+        assertSame(claims, jwtService.parseClaims(token));
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThrows(ExpiredJwtException.class, () -> jwtService.parseClaims(token));
+    }
+
+    @Test
+    void test_parseClaims_shouldNotCacheFailedVerification() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 0)));
+        String forged = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> jwtService.parseClaims(forged));
+        assertThrows(SignatureException.class, () -> jwtService.parseClaims(forged));
+        assertEquals("user@example.com", jwtService.parseClaims(token).getSubject());
+    }
+
+    @Test
+    void test_isTokenValid_shouldAcceptTokenOfCurrentVersion() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 2)));
+
+        assertTrue(jwtService.isTokenValid(jwtService.parseClaims(token), userDetails(user(1, 2))));
+    }
+
+    @Test
+    void test_isTokenValid_shouldRejectExpiredClaims() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 2)));
+        Claims claims = jwtService.parseClaims(token);
+
+        clock.advance(Duration.ofMinutes(16));
+
+        assertFalse(jwtService.isTokenValid(claims, userDetails(user(1, 2))));
+    }
+
+    @Test
+    void test_isTokenValid_shouldRejectTokenOlderThanUserVersion() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 2)));
+
+        assertFalse(jwtService.isTokenValid(jwtService.parseClaims(token), userDetails(user(1, 3))));
+    }
+
+    @Test
+    void test_isTokenValid_shouldRejectRevokedVersionWithoutLoadedUser() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 2)));
+        Claims claims = jwtService.parseClaims(token);
+        revocationList.revokeBefore(1, 3);
+
+        // claims-only mode builds the principal from the token, so only the revocation list can reject it
+        properties.setClaimsOnlyAuth(true);
+        UserDetails principal = jwtService.userDetailsFromClaims(claims).orElseThrow();
+
+        assertFalse(jwtService.isTokenValid(claims, principal));
+    }
+
+    @Test
+    void test_parseRefreshToken_shouldReturnClaimsOfRefreshToken() {
+        String token = jwtService.generateRefreshToken(userDetails(user(1, 2)));
+
+        Claims claims = jwtService.parseRefreshToken(token);
+
+        assertTrue(jwtService.isRefreshToken(claims));
+        verify(refreshTokenStore).store(eq(claims.getId()), eq(1), eq(2), any(LocalDateTime.class));
+    }
+
+    @Test
+    void test_parseRefreshToken_shouldRejectAccessToken() {
+        String token = jwtService.generateAccessToken(userDetails(user(1, 0)));
+
+        assertThrows(InvalidTokenException.class, () -> jwtService.parseRefreshToken(token));
+    }
+
+    @Test
+    void test_parseRefreshToken_shouldRejectForgedToken() {
+        String token = jwtService.generateRefreshToken(userDetails(user(1, 0)));
+        String forged = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(InvalidTokenException.class, () -> jwtService.parseRefreshToken(forged));
+    }
+
+    private UserDetailsImpl userDetails(User user) {
+        return new UserDetailsImpl(user);
+    }
+
+    private User user(Integer id, int tokenVersion) {
+        Role role = new Role();
+        role.setName(RoleType.USER);
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user@example.com");
+        user.setRole(role);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.poolapp.pool.security;
+
+import com.poolapp.pool.repository.RefreshTokenRepository;
+import com.poolapp.pool.util.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setRefreshTokenExpirationMs(604_800_000L);
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, properties);
+    }
+
+    @Test
+    void test_store_shouldPersistHashOfTokenId() {
+        refreshTokenStore.store("token-1", 7, 2, LocalDateTime.now().plusDays(7));
+
+        verify(refreshTokenRepository).save(argThat(token -> token.getTokenHash().length() == 64
+                && !token.getTokenHash().contains("token-1")
+                && token.getUserId() == 7
+                && token.getTokenVersion() == 2));
+    }
+
+    @Test
+    void test_consume_shouldAcceptOutstandingTokenOnce() {
+        when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(1);
+
+        assertTrue(refreshTokenStore.consume("token-1"));
+        assertFalse(refreshTokenStore.consume("token-1"));
+
+        verify(refreshTokenRepository, times(1)).deleteByTokenHash(anyString());
+    }
+
+    @Test
+    void test_consume_shouldRefuseUnknownToken() {
+        when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(0);
+
+        assertFalse(refreshTokenStore.consume("token-2"));
+    }
+}
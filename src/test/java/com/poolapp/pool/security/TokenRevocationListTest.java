@@ -0,0 +1,69 @@
+package com.poolapp.pool.security;
+
+import com.poolapp.pool.util.JwtProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTest {
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenExpirationMs(900_000L);
+        revocationList = new TokenRevocationList(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void test_revokeBefore_shouldRejectOlderVersionsOnly() {
+        revocationList.revokeBefore(1, 3);
+
+        assertTrue(revocationList.isRevoked(1, 2));
+        assertFalse(revocationList.isRevoked(1, 3));
+        assertFalse(revocationList.isRevoked(2, 0));
+    }
+
+    @Test
+    void test_revokeBefore_shouldNeverLowerMinimumVersion() {
+        revocationList.revokeBefore(1, 5);
+        revocationList.revokeBefore(1, 2);
+
+        assertTrue(revocationList.isRevoked(1, 4));
+    }
+
+    @Test
+    void test_revokeBefore_shouldApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        revocationList.revokeBefore(1, 3);
+        assertFalse(revocationList.isRevoked(1, 2));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(revocationList.isRevoked(1, 2));
+    }
+
+    @Test
+    void test_revokeBefore_shouldIgnoreRolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        revocationList.revokeBefore(1, 3);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(revocationList.isRevoked(1, 2));
+    }
+}
@@ -0,0 +1,123 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.exception.InvalidTokenException;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.repository.UserRepository;
+import com.poolapp.pool.security.JwtAuthenticationResponse;
+import com.poolapp.pool.security.JwtService;
+import com.poolapp.pool.security.RefreshTokenStore;
+import com.poolapp.pool.security.UserDetailsImpl;
+import com.poolapp.pool.security.request.RefreshTokenRequest;
+import com.poolapp.pool.service.UserService;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    private User user;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(7);
+        user.setEmail("user@example.com");
+        claims = Jwts.claims().setSubject("user@example.com").setId("token-1");
+    }
+
+    @Test
+    void test_refreshToken_shouldRotateOutstandingToken() {
+        whenRefreshTokenParses();
+        when(jwtService.isTokenValid(any(Claims.class), any(UserDetailsImpl.class))).thenReturn(true);
+        when(refreshTokenStore.consume("token-1")).thenReturn(true);
+        when(jwtService.generateAccessToken(any(UserDetailsImpl.class))).thenReturn("access-2");
+        when(jwtService.generateRefreshToken(any(UserDetailsImpl.class))).thenReturn("refresh-2");
+
+        JwtAuthenticationResponse response = authService.refreshToken(request("refresh-1"));
+
+        assertEquals("access-2", response.getAccessToken());
+        assertEquals("refresh-2", response.getRefreshToken());
+        verify(userService, never()).revokeTokens(anyString());
+    }
+
+    @Test
+    void test_refreshToken_shouldRevokeAllTokensWhenTokenIsReused() {
+        whenRefreshTokenParses();
+        when(jwtService.isTokenValid(any(Claims.class), any(UserDetailsImpl.class))).thenReturn(true);
+        when(refreshTokenStore.consume("token-1")).thenReturn(false);
+
+        assertThrows(InvalidTokenException.class, () -> authService.refreshToken(request("refresh-1")));
+
+        verify(userService).revokeTokens("user@example.com");
+        verify(jwtService, never()).generateRefreshToken(any());
+    }
+
+    @Test
+    void test_refreshToken_shouldRejectTokenOfOutdatedVersionWithoutConsumingIt() {
+        whenRefreshTokenParses();
+        when(jwtService.isTokenValid(any(Claims.class), any(UserDetailsImpl.class))).thenReturn(false);
+
+        assertThrows(InvalidTokenException.class, () -> authService.refreshToken(request("refresh-1")));
+
+        verify(refreshTokenStore, never()).consume(anyString());
+        verify(userService, never()).revokeTokens(anyString());
+    }
+
+    @Test
+    void test_refreshToken_shouldRejectAccessToken() {
+        when(jwtService.parseRefreshToken("access-1")).thenThrow(new InvalidTokenException(ErrorMessages.REFRESH_TOKEN));
+
+        assertThrows(InvalidTokenException.class, () -> authService.refreshToken(request("access-1")));
+
+        verify(refreshTokenStore, never()).consume(anyString());
+        verify(jwtService, never()).generateAccessToken(any());
+    }
+
+    private void whenRefreshTokenParses() {
+        when(jwtService.parseRefreshToken("refresh-1")).thenReturn(claims);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+    }
+
+    private RefreshTokenRequest request(String token) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(token);
+        return request;
+    }
+}
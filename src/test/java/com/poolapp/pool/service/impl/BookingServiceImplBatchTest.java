@@ -0,0 +1,310 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.BatchBookingResultDTO;
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.mapper.BookingMapper;
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.Session;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.specification.builder.BookingSpecificationBuilder;
+import com.poolapp.pool.service.SessionService;
+import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.service.impl.validation.CreateBookingValidationPipeline;
+import com.poolapp.pool.service.impl.validation.DuplicateBookingValidator;
+import com.poolapp.pool.service.impl.validation.SessionAvailabilityValidator;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.BookingContextBuilder;
+import com.poolapp.pool.util.BookingExportWriter;
+import com.poolapp.pool.util.ServiceMetrics;
+import com.poolapp.pool.util.exception.ErrorMessages;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplBatchTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private static final String EMAIL = "user@example.com";
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private BookingSpecificationBuilder bookingSpecificationBuilder;
+
+    @Mock
+    private UserSubscriptionService userSubscriptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingContextBuilder bookingContextBuilder;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private BookingExportWriter bookingExportWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Booking>> persistedBookings;
+
+    private User user;
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void setUp() {
+        CreateBookingValidationPipeline pipeline = new CreateBookingValidationPipeline(
+                List.of(new DuplicateBookingValidator(), new SessionAvailabilityValidator()));
+        bookingService = new BookingServiceImpl(bookingRepository, bookingMapper, sessionService, bookingSpecificationBuilder,
+                userSubscriptionService, eventPublisher, bookingContextBuilder, pipeline, waitlistService, bookingExportWriter,
+                new ServiceMetrics(new SimpleMeterRegistry()), new TransactionTemplate(transactionManager));
+
+        user = new User();
+        user.setId(1);
+        user.setEmail(EMAIL);
+    }
+
+    @Test
+    void test_createBookings_shouldReportResultOfEveryRequestedSession() {
+        SessionDTO unknown = sessionDTO(0);
+        SessionDTO free = sessionDTO(1);
+        SessionDTO repeated = sessionDTO(1);
+        SessionDTO full = sessionDTO(2);
+        SessionDTO takenMeanwhile = sessionDTO(3);
+        List<SessionDTO> request = List.of(unknown, free, repeated, full, takenMeanwhile);
+        Session freeSession = session(11, 5);
+        Session fullSession = session(12, 0);
+        Session takenSession = session(13, 1);
+        whenContexts(request, Optional.empty(), context(freeSession), context(freeSession), context(fullSession), context(takenSession));
+        when(sessionService.reserveSeats(List.of(11, 13))).thenReturn(Set.of(11));
+        whenMapped();
+
+        List<BatchBookingResultDTO> results = bookingService.createBookings(EMAIL, request);
+
+        assertEquals(5, results.size());
+        assertFailed(results.get(0), unknown, "Session not found: pool=Central, startTime=" + unknown.getStartTime());
+        assertTrue(results.get(1).isBooked());
+        assertSame(free, results.get(1).getSessionDTO());
+        assertEquals(EMAIL, results.get(1).getBooking().getUserEmail());
+        assertFailed(results.get(2), repeated, "Session is listed more than once in the request");
+        assertFailed(results.get(3), full, ErrorMessages.NO_FREE_PLACES);
+        assertFailed(results.get(4), takenMeanwhile, ErrorMessages.NO_FREE_PLACES);
+
+        verify(bookingRepository).persistAll(persistedBookings.capture());
+        assertEquals(List.of(freeSession), persistedBookings.getValue().stream().map(Booking::getSession).toList());
+        verify(waitlistService).removeUserFromWaitlists(1, List.of(11));
+    }
+
+    @Test
+    void test_createBookings_shouldReactivateCancelledBookingWithoutPersistingIt() {
+        SessionDTO again = sessionDTO(1);
+        SessionDTO fresh = sessionDTO(2);
+        Session againSession = session(11, 5);
+        Session freshSession = session(12, 5);
+        Booking cancelled = booking(againSession, BookingStatus.CANCELLED);
+        whenContexts(List.of(again, fresh),
+                Optional.of(BookingContext.of(user, againSession, null, cancelled, false)), context(freshSession));
+        when(sessionService.reserveSeats(List.of(11, 12))).thenReturn(Set.of(11, 12));
+        whenMapped();
+
+        List<BatchBookingResultDTO> results = bookingService.createBookings(EMAIL, List.of(again, fresh));
+
+        assertTrue(results.get(0).isBooked());
+        assertTrue(results.get(1).isBooked());
+        assertEquals(BookingStatus.ACTIVE, cancelled.getStatus());
+        verify(bookingRepository).persistAll(persistedBookings.capture());
+        assertEquals(List.of(freshSession), persistedBookings.getValue().stream().map(Booking::getSession).toList());
+    }
+
+    @Test
+    void test_createBookings_shouldRejectSessionAlreadyBookedByUser() {
+        SessionDTO booked = sessionDTO(1);
+        Session session = session(11, 5);
+        whenContexts(List.of(booked), Optional.of(BookingContext.of(user, session, null, booking(session, BookingStatus.ACTIVE), false)));
+
+        List<BatchBookingResultDTO> results = bookingService.createBookings(EMAIL, List.of(booked));
+
+        assertFalse(results.get(0).isBooked());
+        verify(sessionService).reserveSeats(List.of());
+        verify(bookingRepository).persistAll(List.of());
+        verify(waitlistService, never()).removeUserFromWaitlists(anyInt(), anyCollection());
+    }
+
+    @Test
+    void test_createBookings_shouldLinkOnlyAsManyBookingsAsSubscriptionHasLeft() {
+        List<SessionDTO> request = List.of(sessionDTO(1), sessionDTO(2), sessionDTO(3));
+        UserSubscription subscription = subscription(50, 2);
+        whenContexts(request, context(session(11, 5), subscription), context(session(12, 5), subscription), context(session(13, 5), subscription));
+        when(sessionService.reserveSeats(List.of(11, 12, 13))).thenReturn(Set.of(11, 12, 13));
+        when(userSubscriptionService.claimRemainingBookings(50, 2)).thenReturn(true);
+        whenMapped();
+
+        bookingService.createBookings(EMAIL, request);
+
+        verify(bookingRepository).persistAll(persistedBookings.capture());
+        List<Booking> persisted = persistedBookings.getValue();
+        assertEquals(3, persisted.size());
+        assertSame(subscription, persisted.get(0).getUserSubscription());
+        assertSame(subscription, persisted.get(1).getUserSubscription());
+        assertNull(persisted.get(2).getUserSubscription());
+    }
+
+    @Test
+    void test_createBookings_shouldClaimOnlyReservedBookings() {
+        List<SessionDTO> request = List.of(sessionDTO(1), sessionDTO(2));
+        UserSubscription subscription = subscription(50, 5);
+        whenContexts(request, context(session(11, 5), subscription), context(session(12, 5), subscription));
+        when(sessionService.reserveSeats(List.of(11, 12))).thenReturn(Set.of(12));
+        when(userSubscriptionService.claimRemainingBookings(50, 1)).thenReturn(true);
+        whenMapped();
+
+        bookingService.createBookings(EMAIL, request);
+
+        verify(bookingRepository).persistAll(persistedBookings.capture());
+        assertSame(subscription, persistedBookings.getValue().get(0).getUserSubscription());
+    }
+
+    @Test
+    void test_createBookings_shouldBookWithoutSubscriptionWhenClaimFails() {
+        List<SessionDTO> request = List.of(sessionDTO(1), sessionDTO(2));
+        UserSubscription subscription = subscription(50, 2);
+        Session session = session(11, 5);
+        Booking cancelled = booking(session, BookingStatus.CANCELLED);
+        cancelled.setUserSubscription(subscription);
+        whenContexts(request,
+                Optional.of(BookingContext.of(user, session, subscription, cancelled, false)), context(session(12, 5), subscription));
+        when(sessionService.reserveSeats(List.of(11, 12))).thenReturn(Set.of(11, 12));
+        when(userSubscriptionService.claimRemainingBookings(50, 2)).thenReturn(false);
+        whenMapped();
+
+        List<BatchBookingResultDTO> results = bookingService.createBookings(EMAIL, request);
+
+        assertTrue(results.get(0).isBooked());
+        assertTrue(results.get(1).isBooked());
+        assertNull(cancelled.getUserSubscription());
+        verify(bookingRepository).persistAll(persistedBookings.capture());
+        assertNull(persistedBookings.getValue().get(0).getUserSubscription());
+    }
+
+    @Test
+    void test_createBookings_shouldNotClaimWithoutActiveSubscription() {
+        List<SessionDTO> request = List.of(sessionDTO(1));
+        whenContexts(request, context(session(11, 5)));
+        when(sessionService.reserveSeats(List.of(11))).thenReturn(Set.of(11));
+        whenMapped();
+
+        bookingService.createBookings(EMAIL, request);
+
+        verify(userSubscriptionService, never()).claimRemainingBookings(anyInt(), anyInt());
+    }
+
+    @SafeVarargs
+    private void whenContexts(List<SessionDTO> request, Optional<BookingContext>... contexts) {
+        when(bookingContextBuilder.build(EMAIL, request)).thenReturn(new ArrayList<>(List.of(contexts)));
+    }
+
+    private void whenMapped() {
+        when(bookingMapper.toDto(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return BookingDTO.builder()
+                    .userEmail(booking.getUser().getEmail())
+                    .sessionDTO(sessionDTO(booking.getSession().getStartTime()))
+                    .build();
+        });
+    }
+
+    private void assertFailed(BatchBookingResultDTO result, SessionDTO sessionDTO, String error) {
+        assertFalse(result.isBooked());
+        assertSame(sessionDTO, result.getSessionDTO());
+        assertNull(result.getBooking());
+        assertEquals(error, result.getError());
+    }
+
+    private Optional<BookingContext> context(Session session) {
+        return context(session, null);
+    }
+
+    private Optional<BookingContext> context(Session session, UserSubscription subscription) {
+        return Optional.of(BookingContext.of(user, session, subscription, null, false));
+    }
+
+    private Session session(Integer id, int capacity) {
+        Pool pool = new Pool();
+        pool.setName("Central");
+        Session session = new Session();
+        session.setId(id);
+        session.setPool(pool);
+        session.setStartTime(START.plusDays(id));
+        session.setEndTime(START.plusDays(id).plusHours(1));
+        session.setCurrentCapacity(capacity);
+        return session;
+    }
+
+    private SessionDTO sessionDTO(int day) {
+        return sessionDTO(START.plusDays(10 + day));
+    }
+
+    private SessionDTO sessionDTO(LocalDateTime startTime) {
+        return SessionDTO.builder().poolName("Central").startTime(startTime).build();
+    }
+
+    private Booking booking(Session session, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setSession(session);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private UserSubscription subscription(Integer id, int remainingBookings) {
+        UserSubscription subscription = new UserSubscription();
+        subscription.setId(id);
+        subscription.setRemainingBookings(remainingBookings);
+        return subscription;
+    }
+}
@@ -0,0 +1,166 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.mapper.BookingMapper;
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.Session;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.specification.builder.BookingSpecificationBuilder;
+import com.poolapp.pool.service.SessionService;
+import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.service.impl.validation.CreateBookingValidationPipeline;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.BookingContextBuilder;
+import com.poolapp.pool.util.BookingExportWriter;
+import com.poolapp.pool.util.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplDeleteTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private BookingSpecificationBuilder bookingSpecificationBuilder;
+
+    @Mock
+    private UserSubscriptionService userSubscriptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingContextBuilder bookingContextBuilder;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private BookingExportWriter bookingExportWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Session session;
+    private User user;
+    private BookingDTO bookingDTO;
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new BookingServiceImpl(bookingRepository, bookingMapper, sessionService, bookingSpecificationBuilder,
+                userSubscriptionService, eventPublisher, bookingContextBuilder, new CreateBookingValidationPipeline(List.of()),
+                waitlistService, bookingExportWriter, new ServiceMetrics(new SimpleMeterRegistry()), new TransactionTemplate(transactionManager));
+
+        Pool pool = new Pool();
+        pool.setName("Central");
+        session = new Session();
+        session.setId(10);
+        session.setPool(pool);
+        session.setStartTime(START);
+        session.setEndTime(START.plusHours(1));
+        user = new User();
+        user.setId(1);
+        user.setEmail("user@example.com");
+        bookingDTO = BookingDTO.builder()
+                .userEmail("user@example.com")
+                .sessionDTO(SessionDTO.builder().poolName("Central").startTime(START).build())
+                .build();
+    }
+
+    @Test
+    void test_deleteBooking_shouldReturnSeatAndSubscriptionBookingOfActiveBooking() {
+        whenExistingBooking(booking(BookingStatus.ACTIVE, subscription(50)));
+
+        bookingService.deleteBooking(bookingDTO);
+
+        verify(userSubscriptionService).incrementRemainingBookings(50);
+        verify(sessionService).releaseSeat(10);
+    }
+
+    @Test
+    void test_deleteBooking_shouldNotRefundCancelledBooking() {
+        whenExistingBooking(booking(BookingStatus.CANCELLED, subscription(50)));
+
+        bookingService.deleteBooking(bookingDTO);
+
+        verify(bookingRepository).deleteById(any());
+        verify(userSubscriptionService, never()).incrementRemainingBookings(anyInt());
+        verify(sessionService, never()).releaseSeat(anyInt());
+    }
+
+    @Test
+    void test_deleteBooking_shouldNotRefundCompletedBooking() {
+        whenExistingBooking(booking(BookingStatus.COMPLETED, subscription(50)));
+
+        bookingService.deleteBooking(bookingDTO);
+
+        verify(userSubscriptionService, never()).incrementRemainingBookings(anyInt());
+        verify(sessionService, never()).releaseSeat(anyInt());
+    }
+
+    @Test
+    void test_deleteBooking_shouldRefundCancelledBookingOnlyOnce() {
+        whenExistingBooking(booking(BookingStatus.ACTIVE, subscription(50)));
+
+        bookingService.cancelBooking(bookingDTO);
+        bookingService.deleteBooking(bookingDTO);
+
+        verify(userSubscriptionService, times(1)).incrementRemainingBookings(50);
+        verify(sessionService, times(1)).releaseSeat(10);
+    }
+
+    private void whenExistingBooking(Booking booking) {
+        when(bookingContextBuilder.build(eq("user@example.com"), any(SessionDTO.class)))
+                .thenReturn(BookingContext.of(user, session, null, booking, false));
+    }
+
+    private Booking booking(BookingStatus status, UserSubscription subscription) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setSession(session);
+        booking.setStatus(status);
+        booking.setUserSubscription(subscription);
+        return booking;
+    }
+
+    private UserSubscription subscription(Integer id) {
+        UserSubscription subscription = new UserSubscription();
+        subscription.setId(id);
+        return subscription;
+    }
+}
@@ -0,0 +1,174 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.BookingPageDTO;
+import com.poolapp.pool.dto.requestDTO.RequestBookingDTO;
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.mapper.BookingMapper;
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import com.poolapp.pool.repository.specification.builder.BookingSpecificationBuilder;
+import com.poolapp.pool.service.SessionService;
+import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.service.impl.validation.CreateBookingValidationPipeline;
+import com.poolapp.pool.util.BookingContextBuilder;
+import com.poolapp.pool.util.BookingCursor;
+import com.poolapp.pool.util.BookingExportWriter;
+import com.poolapp.pool.util.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplSearchTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private BookingSpecificationBuilder bookingSpecificationBuilder;
+
+    @Mock
+    private UserSubscriptionService userSubscriptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingContextBuilder bookingContextBuilder;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private BookingExportWriter bookingExportWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Specification<Booking> spec;
+
+    private RequestBookingDTO filterDTO;
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new BookingServiceImpl(bookingRepository, bookingMapper, sessionService, bookingSpecificationBuilder,
+                userSubscriptionService, eventPublisher, bookingContextBuilder, new CreateBookingValidationPipeline(List.of()),
+                waitlistService, bookingExportWriter, new ServiceMetrics(new SimpleMeterRegistry()), new TransactionTemplate(transactionManager));
+
+        filterDTO = new RequestBookingDTO();
+        filterDTO.setUserEmail("user@example.com");
+    }
+
+    @Test
+    void test_findBookingsByFilter_shouldReturnCursorOfLastRowWhenMoreRowsExist() {
+        List<BookingSearchRow> rows = rows(3);
+        whenSearch(3, rows);
+
+        BookingPageDTO page = bookingService.findBookingsByFilter(filterDTO, null, 2);
+
+        assertEquals(2, page.getContent().size());
+        verify(bookingMapper).toDtoListFromRows(rows.subList(0, 2));
+        BookingCursor next = BookingCursor.decode(page.getNextCursor());
+        assertEquals(START.plusDays(1), next.getStartTime());
+        assertEquals(11, next.getSessionId());
+        assertEquals(1, next.getUserId());
+    }
+
+    @Test
+    void test_findBookingsByFilter_shouldOmitCursorOnLastPage() {
+        whenSearch(3, rows(2));
+
+        BookingPageDTO page = bookingService.findBookingsByFilter(filterDTO, null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void test_findBookingsByFilter_shouldOmitCursorOnEmptyPage() {
+        whenSearch(3, List.of());
+
+        BookingPageDTO page = bookingService.findBookingsByFilter(filterDTO, null, 2);
+
+        assertEquals(0, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void test_findBookingsByFilter_shouldContinueAfterGivenCursor() {
+        String cursor = new BookingCursor(START, 10, 7).encode();
+        when(bookingMapper.toEntity(filterDTO)).thenReturn(new Booking());
+        when(bookingSpecificationBuilder.buildSpecification(any(Booking.class), eq("user@example.com"))).thenReturn(spec);
+        when(bookingRepository.search(eq(spec), argThat(after -> after != null && START.equals(after.getStartTime())
+                && after.getSessionId() == 10 && after.getUserId() == 7), eq(3))).thenReturn(rows(1));
+        when(bookingMapper.toDtoListFromRows(any())).thenAnswer(invocation -> dtos(invocation.getArgument(0)));
+
+        BookingPageDTO page = bookingService.findBookingsByFilter(filterDTO, cursor, 2);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void test_findBookingsByFilter_shouldRejectMalformedCursorBeforeSearching() {
+        when(bookingMapper.toEntity(filterDTO)).thenReturn(new Booking());
+
+        assertThrows(BadRequestException.class, () -> bookingService.findBookingsByFilter(filterDTO, "not a cursor", 2));
+
+        verify(bookingRepository, never()).search(any(), any(), anyInt());
+    }
+
+    private void whenSearch(int limit, List<BookingSearchRow> rows) {
+        when(bookingMapper.toEntity(filterDTO)).thenReturn(new Booking());
+        when(bookingSpecificationBuilder.buildSpecification(any(Booking.class), eq("user@example.com"))).thenReturn(spec);
+        when(bookingRepository.search(eq(spec), isNull(), eq(limit))).thenReturn(rows);
+        when(bookingMapper.toDtoListFromRows(any())).thenAnswer(invocation -> dtos(invocation.getArgument(0)));
+    }
+
+    private List<BookingDTO> dtos(List<BookingSearchRow> rows) {
+        return rows.stream().map(row -> BookingDTO.builder().userEmail(row.getUserEmail()).build()).toList();
+    }
+
+    private List<BookingSearchRow> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BookingSearchRow(10 + i, 1, "user@example.com", "Central", START.plusDays(i),
+                        START.plusDays(i).plusHours(1), START.minusDays(1), null, null, null, null, null, null, null))
+                .toList();
+    }
+}
@@ -507,19 +507,15 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void test_expirePastBookings_changesStatusAndSaves() {
-        Booking b1 = new Booking();
-        b1.setStatus(BookingStatus.ACTIVE);
-        Booking b2 = new Booking();
-        b2.setStatus(BookingStatus.ACTIVE);
+    void test_expirePastBookings_updatesInChunksUntilShortChunk() {
+        LocalDateTime now = LocalDateTime.now();
+        when(bookingRepository.completeActiveBookingsStartedBefore(now, 2)).thenReturn(2, 2, 1);
 
-        when(bookingRepository.findBySession_StartTimeBeforeAndStatus(any(LocalDateTime.class), eq(BookingStatus.ACTIVE))).thenReturn(List.of(b1, b2));
+        int expired = bookingService.expirePastBookings(now, 2);
 
-        bookingService.expirePastBookings(LocalDateTime.now());
-
-        assertEquals(BookingStatus.COMPLETED, b1.getStatus());
-        assertEquals(BookingStatus.COMPLETED, b2.getStatus());
-        verify(bookingRepository, times(1)).saveAll(List.of(b1, b2));
+        assertEquals(5, expired);
+        verify(bookingRepository, times(3)).completeActiveBookingsStartedBefore(now, 2);
+        verify(bookingRepository, never()).saveAll(any());
     }
 
     @Test
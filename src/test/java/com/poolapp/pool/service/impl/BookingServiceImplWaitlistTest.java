@@ -0,0 +1,260 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.dto.SessionDTO;
+import com.poolapp.pool.mapper.BookingMapper;
+import com.poolapp.pool.model.Booking;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.Session;
+import com.poolapp.pool.model.User;
+import com.poolapp.pool.model.UserSubscription;
+import com.poolapp.pool.model.WaitlistEntry;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.BookingRepository;
+import com.poolapp.pool.repository.specification.builder.BookingSpecificationBuilder;
+import com.poolapp.pool.service.SessionService;
+import com.poolapp.pool.service.UserSubscriptionService;
+import com.poolapp.pool.service.WaitlistService;
+import com.poolapp.pool.service.impl.validation.CreateBookingValidationPipeline;
+import com.poolapp.pool.service.impl.validation.DuplicateBookingValidator;
+import com.poolapp.pool.service.impl.validation.SessionAvailabilityValidator;
+import com.poolapp.pool.util.BookingContext;
+import com.poolapp.pool.util.BookingContextBuilder;
+import com.poolapp.pool.util.BookingCreatedEvent;
+import com.poolapp.pool.util.BookingExportWriter;
+import com.poolapp.pool.util.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplWaitlistTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private BookingSpecificationBuilder bookingSpecificationBuilder;
+
+    @Mock
+    private UserSubscriptionService userSubscriptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingContextBuilder bookingContextBuilder;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private BookingExportWriter bookingExportWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Session session;
+    private SessionDTO sessionDTO;
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void setUp() {
+        CreateBookingValidationPipeline pipeline = new CreateBookingValidationPipeline(
+                List.of(new DuplicateBookingValidator(), new SessionAvailabilityValidator()));
+        bookingService = new BookingServiceImpl(bookingRepository, bookingMapper, sessionService, bookingSpecificationBuilder,
+                userSubscriptionService, eventPublisher, bookingContextBuilder, pipeline, waitlistService, bookingExportWriter,
+                new ServiceMetrics(new SimpleMeterRegistry()), new TransactionTemplate(transactionManager));
+
+        Pool pool = new Pool();
+        pool.setName("Central");
+        session = new Session();
+        session.setId(10);
+        session.setPool(pool);
+        session.setStartTime(START);
+        session.setEndTime(START.plusHours(1));
+        // stale snapshot: the released seat is only visible to the atomic update
+        session.setCurrentCapacity(0);
+        sessionDTO = SessionDTO.builder().poolName("Central").startTime(START).build();
+    }
+
+    @Test
+    void test_cancelBooking_shouldPromoteHeadOfWaitlist() {
+        cancelledBy(user(1, "leaver@example.com"));
+        WaitlistEntry head = entry(100, user(2, "next@example.com"));
+        when(waitlistService.findNextForPromotion(10)).thenReturn(Optional.of(head));
+        whenContextFor(head.getUser(), null);
+        when(sessionService.reserveSeat(10)).thenReturn(true);
+        whenPromotionSaves();
+
+        bookingService.cancelBooking(bookingDTO("leaver@example.com"));
+
+        verify(bookingRepository).save(argThat(booking -> booking.getUser() == head.getUser() && booking.getStatus() == BookingStatus.ACTIVE));
+        verify(waitlistService).removeEntry(head);
+        verify(eventPublisher).publishEvent(any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    void test_cancelBooking_shouldDropEntryOfUserWithActiveBookingAndPromoteNext() {
+        cancelledBy(user(1, "leaver@example.com"));
+        WaitlistEntry alreadyBooked = entry(100, user(2, "booked@example.com"));
+        WaitlistEntry next = entry(101, user(3, "next@example.com"));
+        when(waitlistService.findNextForPromotion(10)).thenReturn(Optional.of(alreadyBooked), Optional.of(next));
+        whenContextFor(alreadyBooked.getUser(), booking(alreadyBooked.getUser(), BookingStatus.ACTIVE));
+        whenContextFor(next.getUser(), null);
+        when(sessionService.reserveSeat(10)).thenReturn(true);
+        whenPromotionSaves();
+
+        bookingService.cancelBooking(bookingDTO("leaver@example.com"));
+
+        verify(waitlistService).removeEntry(alreadyBooked);
+        verify(waitlistService).removeEntry(next);
+        verify(sessionService, times(1)).reserveSeat(10);
+        verify(bookingRepository, never()).save(argThat(booking -> booking.getUser() == alreadyBooked.getUser()));
+        verify(bookingRepository).save(argThat(booking -> booking.getUser() == next.getUser()));
+        verify(eventPublisher, times(1)).publishEvent(any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    void test_cancelBooking_shouldKeepEntryWhenSeatIsTakenBeforePromotion() {
+        cancelledBy(user(1, "leaver@example.com"));
+        WaitlistEntry head = entry(100, user(2, "next@example.com"));
+        when(waitlistService.findNextForPromotion(10)).thenReturn(Optional.of(head));
+        whenContextFor(head.getUser(), null);
+        when(sessionService.reserveSeat(10)).thenReturn(false);
+
+        bookingService.cancelBooking(bookingDTO("leaver@example.com"));
+
+        verify(waitlistService, never()).removeEntry(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void test_cancelBooking_shouldSkipEntryWhoseEntitlementCannotBeClaimed() {
+        cancelledBy(user(1, "leaver@example.com"));
+        WaitlistEntry usedUp = entry(100, user(2, "usedup@example.com"));
+        WaitlistEntry next = entry(101, user(3, "next@example.com"));
+        when(waitlistService.findNextForPromotion(10)).thenReturn(Optional.of(usedUp), Optional.of(next));
+        whenContextFor(usedUp.getUser(), null, subscription(50));
+        whenContextFor(next.getUser(), null);
+        when(userSubscriptionService.decrementRemainingBookings(50)).thenReturn(false);
+        when(sessionService.reserveSeat(10)).thenReturn(true);
+        whenPromotionSaves();
+
+        bookingService.cancelBooking(bookingDTO("leaver@example.com"));
+
+        verify(waitlistService).removeEntry(usedUp);
+        verify(sessionService, times(1)).reserveSeat(10);
+        verify(bookingRepository, never()).save(argThat(booking -> booking.getUser() == usedUp.getUser()));
+        verify(bookingRepository).save(argThat(booking -> booking.getUser() == next.getUser() && booking.getUserSubscription() == null));
+    }
+
+    @Test
+    void test_cancelBooking_shouldReturnClaimedBookingWhenSeatIsTakenBeforePromotion() {
+        cancelledBy(user(1, "leaver@example.com"));
+        WaitlistEntry head = entry(100, user(2, "next@example.com"));
+        when(waitlistService.findNextForPromotion(10)).thenReturn(Optional.of(head));
+        whenContextFor(head.getUser(), null, subscription(50));
+        when(userSubscriptionService.decrementRemainingBookings(50)).thenReturn(true);
+        when(sessionService.reserveSeat(10)).thenReturn(false);
+
+        bookingService.cancelBooking(bookingDTO("leaver@example.com"));
+
+        verify(userSubscriptionService).incrementRemainingBookings(50);
+        verify(waitlistService, never()).removeEntry(any());
+    }
+
+    @Test
+    void test_createBooking_shouldRemoveUserFromWaitlist() {
+        User user = user(2, "next@example.com");
+        session.setCurrentCapacity(5);
+        whenContextFor(user, null);
+        when(sessionService.reserveSeat(10)).thenReturn(true);
+
+        bookingService.createBooking(bookingDTO("next@example.com"));
+
+        verify(waitlistService).removeUserFromWaitlists(2, List.of(10));
+    }
+
+    private void cancelledBy(User user) {
+        whenContextFor(user, booking(user, BookingStatus.ACTIVE));
+    }
+
+    private void whenPromotionSaves() {
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookingMapper.toDto(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return bookingDTO(booking.getUser().getEmail());
+        });
+    }
+
+    private void whenContextFor(User user, Booking existingBooking) {
+        whenContextFor(user, existingBooking, null);
+    }
+
+    private void whenContextFor(User user, Booking existingBooking, UserSubscription activeSubscription) {
+        when(bookingContextBuilder.build(eq(user.getEmail()), any(SessionDTO.class)))
+                .thenReturn(BookingContext.of(user, session, activeSubscription, existingBooking, false));
+    }
+
+    private UserSubscription subscription(Integer id) {
+        UserSubscription subscription = new UserSubscription();
+        subscription.setId(id);
+        subscription.setRemainingBookings(1);
+        return subscription;
+    }
+
+    private BookingDTO bookingDTO(String email) {
+        return BookingDTO.builder().userEmail(email).sessionDTO(sessionDTO).build();
+    }
+
+    private Booking booking(User user, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setSession(session);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private WaitlistEntry entry(Integer id, User user) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setUser(user);
+        entry.setSession(session);
+        entry.setCreatedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private User user(Integer id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,164 @@
+package com.poolapp.pool.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poolapp.pool.dto.BookingDTO;
+import com.poolapp.pool.exception.IdempotencyConflictException;
+import com.poolapp.pool.model.IdempotencyRecord;
+import com.poolapp.pool.model.enums.BookingStatus;
+import com.poolapp.pool.repository.IdempotencyRecordRepository;
+import com.poolapp.pool.util.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyServiceImpl idempotencyService;
+    private BookingDTO request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyRecordRepository, new IdempotencyProperties(), objectMapper,
+                transactionManager);
+
+        request = new BookingDTO();
+        request.setUserEmail("user@example.com");
+    }
+
+    @Test
+    void test_execute_shouldRunActionOnceAndReplayResponse() {
+        when(idempotencyRecordRepository.claim(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        BookingDTO first = idempotencyService.execute("user@example.com", "key-1", request, BookingDTO.class, () -> createBooking(calls));
+        BookingDTO second = idempotencyService.execute("user@example.com", "key-1", request, BookingDTO.class, () -> createBooking(calls));
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getStatus(), second.getStatus());
+        assertEquals(first.getUserEmail(), second.getUserEmail());
+        verify(idempotencyRecordRepository, times(1)).complete(eq("user@example.com:key-1"), anyString());
+    }
+
+    @Test
+    void test_execute_shouldRejectKeyReusedWithDifferentRequest() {
+        when(idempotencyRecordRepository.claim(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        AtomicInteger calls = new AtomicInteger();
+        idempotencyService.execute("user@example.com", "key-1", request, BookingDTO.class, () -> createBooking(calls));
+
+        BookingDTO otherRequest = new BookingDTO();
+        otherRequest.setUserEmail("user@example.com");
+        otherRequest.setStatus(BookingStatus.CANCELLED);
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("user@example.com", "key-1", otherRequest, BookingDTO.class, () -> createBooking(calls)));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void test_execute_shouldReplayPersistedResponseWithoutRunningAction() throws Exception {
+        BookingDTO stored = new BookingDTO();
+        stored.setUserEmail("user@example.com");
+        stored.setStatus(BookingStatus.ACTIVE);
+        String requestHash = hashOf(request);
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .idempotencyKey("user@example.com:key-1")
+                .requestHash(requestHash)
+                .responseBody(objectMapper.writeValueAsString(stored))
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRecordRepository.claim(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(idempotencyRecordRepository.findByIdempotencyKeyAndExpiresAtAfter(anyString(), any(LocalDateTime.class))).thenReturn(Optional.of(record));
+        AtomicInteger calls = new AtomicInteger();
+
+        BookingDTO result = idempotencyService.execute("user@example.com", "key-1", request, BookingDTO.class, () -> createBooking(calls));
+
+        assertEquals(0, calls.get());
+        assertEquals(BookingStatus.ACTIVE, result.getStatus());
+    }
+
+    @Test
+    void test_execute_shouldWaitForInFlightRequestAndReplayItsResponse() throws Exception {
+        when(idempotencyRecordRepository.claim(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BookingDTO> first = executor.submit(() -> idempotencyService.execute("user@example.com", "key-1", request,
+                    BookingDTO.class, () -> {
+                        firstStarted.countDown();
+                        await(releaseFirst);
+                        return createBooking(calls);
+                    }));
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            Future<BookingDTO> second = executor.submit(() -> idempotencyService.execute("user@example.com", "key-1", request,
+                    BookingDTO.class, () -> createBooking(calls)));
+            assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+
+            releaseFirst.countDown();
+            assertEquals(BookingStatus.ACTIVE, first.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(BookingStatus.ACTIVE, second.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(1, calls.get());
+            verify(idempotencyRecordRepository, times(1)).claim(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BookingDTO createBooking(AtomicInteger calls) {
+        calls.incrementAndGet();
+        BookingDTO response = new BookingDTO();
+        response.setUserEmail("user@example.com");
+        response.setStatus(BookingStatus.ACTIVE);
+        return response;
+    }
+
+    private String hashOf(Object value) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -0,0 +1,103 @@
+package com.poolapp.pool.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poolapp.pool.model.MailOutboxEntry;
+import com.poolapp.pool.model.enums.MailOutboxStatus;
+import com.poolapp.pool.model.enums.MailType;
+import com.poolapp.pool.repository.MailOutboxRepository;
+import com.poolapp.pool.service.MailService;
+import com.poolapp.pool.util.MailOutboxProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceImplTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private MailService mailService;
+
+    private MailOutboxProperties properties;
+    private MailOutboxServiceImpl mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MailOutboxProperties();
+        properties.setMaxAttempts(3);
+        mailOutboxService = new MailOutboxServiceImpl(mailOutboxRepository, mailService, properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @Test
+    void test_dispatchPending_shouldMarkDeliveredMailsSent() {
+        MailOutboxEntry entry = entry(1L, 0);
+        when(mailOutboxRepository.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), anyInt())).thenReturn(List.of(entry));
+
+        assertEquals(1, mailOutboxService.dispatchPending());
+
+        verify(mailService).deliver(entry);
+        verify(mailOutboxRepository).markSent(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void test_dispatchPending_shouldRescheduleFailedMailWithBackoff() {
+        MailOutboxEntry entry = entry(2L, 0);
+        when(mailOutboxRepository.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), anyInt())).thenReturn(List.of(entry));
+        doThrow(new MailSendException("relay unavailable")).when(mailService).deliver(entry);
+        LocalDateTime before = LocalDateTime.now();
+
+        mailOutboxService.dispatchPending();
+
+        verify(mailOutboxRepository).markFailed(eq(2L), eq(MailOutboxStatus.PENDING),
+                argThat(next -> !next.isBefore(before.plus(properties.getInitialBackoff()))), anyString());
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void test_dispatchPending_shouldDeadLetterAfterMaxAttempts() {
+        MailOutboxEntry entry = entry(3L, 2);
+        when(mailOutboxRepository.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), anyInt())).thenReturn(List.of(entry));
+        doThrow(new MailSendException("mailbox unavailable")).when(mailService).deliver(entry);
+
+        mailOutboxService.dispatchPending();
+
+        verify(mailOutboxRepository).markFailed(eq(3L), eq(MailOutboxStatus.DEAD), any(), anyString());
+    }
+
+    private MailOutboxEntry entry(Long id, int attempts) {
+        MailOutboxEntry entry = new MailOutboxEntry();
+        entry.setId(id);
+        entry.setMailType(MailType.BOOKING_CONFIRMATION);
+        entry.setRecipient("user@example.com");
+        entry.setPayload("{}");
+        entry.setStatus(MailOutboxStatus.PENDING);
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(LocalDateTime.now());
+        return entry;
+    }
+}
@@ -0,0 +1,100 @@
+package com.poolapp.pool.service.impl;
+
+import com.poolapp.pool.dto.requestDTO.SessionGenerationRequest;
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.PoolSchedule;
+import com.poolapp.pool.repository.PoolRepository;
+import com.poolapp.pool.repository.SessionRepository;
+import com.poolapp.pool.repository.projection.SessionSlot;
+import com.poolapp.pool.util.PoolCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionGeneratorServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 23);
+
+    @Mock
+    private PoolRepository poolRepository;
+
+    @Mock
+    private PoolCache poolCache;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionGeneratorServiceImpl sessionGeneratorService;
+    private Pool pool;
+
+    @BeforeEach
+    void setUp() {
+        sessionGeneratorService = new SessionGeneratorServiceImpl(poolRepository, poolCache, sessionRepository, jdbcTemplate, 500, 366);
+        pool = Pool.builder().id(1).name("Main Pool").maxCapacity(20).sessionDurationMinutes(60).build();
+    }
+
+    @Test
+    void test_planSlots_shouldSkipSlotsOverlappingExistingSessions() {
+        SessionSlot existing = new SessionSlot(MONDAY.atTime(9, 30), MONDAY.atTime(10, 30));
+
+        List<SessionSlot> slots = sessionGeneratorService.planSlots(pool, Map.of((short) 1, schedule((short) 1, 8, 12)), List.of(existing), MONDAY, MONDAY.plusDays(1));
+
+        assertEquals(2, slots.size());
+        assertEquals(MONDAY.atTime(8, 0), slots.get(0).getStartTime());
+        assertEquals(MONDAY.atTime(11, 0), slots.get(1).getStartTime());
+    }
+
+    @Test
+    void test_generateSessions_shouldBatchInsertAllFreeSlots() {
+        when(poolRepository.findByNameForUpdate("Main Pool")).thenReturn(Optional.of(pool));
+        when(poolCache.getSchedules(1)).thenReturn(List.of(schedule((short) 1, 8, 12), schedule((short) 3, 18, 20)));
+        when(sessionRepository.findSlotsOverlapping(eq(1), any(), any())).thenReturn(List.of());
+
+        SessionGenerationRequest request = new SessionGenerationRequest(List.of("Main Pool"), MONDAY, MONDAY.plusDays(13));
+
+        assertEquals(12, sessionGeneratorService.generateSessions(request));
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(500), any());
+    }
+
+    @Test
+    void test_generateSessions_shouldRejectReversedRange() {
+        SessionGenerationRequest request = new SessionGenerationRequest(List.of("Main Pool"), MONDAY, MONDAY.minusDays(1));
+
+        assertThrows(BadRequestException.class, () -> sessionGeneratorService.generateSessions(request));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    private PoolSchedule schedule(short dayOfWeek, int openingHour, int closingHour) {
+        PoolSchedule schedule = new PoolSchedule();
+        schedule.setPool(pool);
+        schedule.setDayOfWeek(dayOfWeek);
+        schedule.setOpeningTime(LocalTime.of(openingHour, 0));
+        schedule.setClosingTime(LocalTime.of(closingHour, 0));
+        return schedule;
+    }
+}
@@ -4,6 +4,7 @@ import com.poolapp.pool.dto.PoolDTO;
 import com.poolapp.pool.dto.SessionDTO;
 import com.poolapp.pool.exception.ModelNotFoundException;
 import com.poolapp.pool.exception.NoFreePlacesException;
+import com.poolapp.pool.exception.SessionOverlapException;
 import com.poolapp.pool.mapper.PoolMapper;
 import com.poolapp.pool.mapper.SessionMapper;
 import com.poolapp.pool.model.Pool;
@@ -13,6 +14,7 @@ import com.poolapp.pool.repository.SessionRepository;
 import com.poolapp.pool.service.PoolService;
 import com.poolapp.pool.util.CapacityOperation;
 import com.poolapp.pool.util.ChangeSessionCapacityRequest;
+import com.poolapp.pool.util.exception.SqlStates;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,14 +23,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -91,13 +96,22 @@ class SessionServiceImplTest {
     @Test
     void test_createSession_shouldSaveAndReturnSessionDTO() {
         when(poolService.getPoolByName("Main Pool")).thenReturn(pool);
-        when(sessionRepository.save(any())).thenReturn(session);
+        when(sessionRepository.saveAndFlush(any())).thenReturn(session);
 
         SessionDTO result = sessionService.createSession(sessionDTO);
 
         assertNotNull(result);
         assertEquals("Main Pool", result.getPoolDTO().getName());
-        verify(sessionRepository, times(1)).save(any());
+        verify(sessionRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void test_createSession_shouldTranslateExclusionViolationToOverlap() {
+        when(poolService.getPoolByName("Main Pool")).thenReturn(pool);
+        when(sessionRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("overlap",
+                new SQLException("conflicting key value violates exclusion constraint", SqlStates.EXCLUSION_VIOLATION)));
+
+        assertThrows(SessionOverlapException.class, () -> sessionService.createSession(sessionDTO));
     }
 
     @Test
@@ -108,11 +122,12 @@ class SessionServiceImplTest {
         ChangeSessionCapacityRequest request = new ChangeSessionCapacityRequest();
         request.setSessionDTO(sessionDTO);
         request.setOperation(CapacityOperation.DECREASE);
+        when(sessionRepository.decrementCapacityIfAvailable(1)).thenReturn(1);
 
         sessionService.changeSessionCapacity(request);
 
-        assertEquals(4, session.getCurrentCapacity());
-        verify(sessionRepository, times(1)).save(session);
+        verify(sessionRepository, times(1)).decrementCapacityIfAvailable(1);
+        verify(sessionRepository, never()).save(any());
     }
 
     @Test
@@ -120,6 +135,7 @@ class SessionServiceImplTest {
         session.setCurrentCapacity(0);
         when(sessionRepository.findByPoolNameAndStartTime("Main Pool", sessionDTO.getStartTime()))
                 .thenReturn(Optional.of(session));
+        when(sessionRepository.decrementCapacityIfAvailable(1)).thenReturn(0);
 
         ChangeSessionCapacityRequest request = new ChangeSessionCapacityRequest();
         request.setSessionDTO(sessionDTO);
@@ -153,8 +169,23 @@ class SessionServiceImplTest {
         request.setOperation(CapacityOperation.INCREASE);
 
         sessionService.changeSessionCapacity(request);
-        assertEquals(6, session.getCurrentCapacity());
-        verify(sessionRepository, times(1)).save(session);
+        verify(sessionRepository, times(1)).incrementCapacity(1);
+        verify(sessionRepository, never()).save(any());
+    }
+
+    @Test
+    void test_reserveSeat_shouldReturnTrueWhenRowUpdated() {
+        when(sessionRepository.decrementCapacityIfAvailable(1)).thenReturn(1);
+
+        assertTrue(sessionService.reserveSeat(1));
+    }
+
+    @Test
+    void test_reserveSeat_shouldReturnFalseWhenSoldOut() {
+        when(sessionRepository.decrementCapacityIfAvailable(1)).thenReturn(0);
+
+        assertFalse(sessionService.reserveSeat(1));
+        verify(sessionRepository, never()).findByPoolNameAndStartTime(any(), any());
     }
 
     @Test
@@ -0,0 +1,63 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.exception.BadRequestException;
+import com.poolapp.pool.repository.projection.BookingSearchRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookingCursorTest {
+
+    @Test
+    void test_decode_shouldRestoreEncodedCursor() {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 7, 9, 0, 0, 123_000_000);
+
+        BookingCursor decoded = BookingCursor.decode(new BookingCursor(startTime, 10, 7).encode());
+
+        assertEquals(startTime, decoded.getStartTime());
+        assertEquals(10, decoded.getSessionId());
+        assertEquals(7, decoded.getUserId());
+    }
+
+    @Test
+    void test_after_shouldTakeKeysetColumnsOfRow() {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 7, 9, 0);
+        BookingSearchRow row = new BookingSearchRow(10, 7, "user@example.com", "Central", startTime, startTime.plusHours(1),
+                startTime.minusDays(1), null, null, null, null, null, null, null);
+
+        BookingCursor cursor = BookingCursor.after(row);
+
+        assertEquals(startTime, cursor.getStartTime());
+        assertEquals(10, cursor.getSessionId());
+        assertEquals(7, cursor.getUserId());
+    }
+
+    @Test
+    void test_encode_shouldBeUrlSafe() {
+        String encoded = new BookingCursor(LocalDateTime.of(2030, 1, 7, 9, 0), 10, 7).encode();
+
+        assertEquals(-1, encoded.indexOf('='));
+        assertEquals(-1, encoded.indexOf('+'));
+        assertEquals(-1, encoded.indexOf('/'));
+    }
+
+    @Test
+    void test_decode_shouldRejectCursorThatIsNotBase64() {
+        assertThrows(BadRequestException.class, () -> BookingCursor.decode("not base64!"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2030-01-07T09:00|10", "yesterday|10|7", "2030-01-07T09:00|ten|7"})
+    void test_decode_shouldRejectMalformedPayload(String payload) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> BookingCursor.decode(cursor));
+    }
+}
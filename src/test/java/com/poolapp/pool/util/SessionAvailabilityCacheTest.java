@@ -0,0 +1,138 @@
+package com.poolapp.pool.util;
+
+import com.poolapp.pool.model.Pool;
+import com.poolapp.pool.model.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionAvailabilityCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private SessionAvailabilityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionAvailabilityCache(Duration.ofSeconds(30), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void test_put_shouldSeedRemainingSeatsBySlot() {
+        cache.put(session(3));
+
+        assertEquals(OptionalInt.of(3), cache.getRemainingSeats("Central", START));
+    }
+
+    @Test
+    void test_put_shouldKeepExistingCounter() {
+        cache.put(session(3));
+        cache.seatReserved(10);
+
+        cache.put(session(3));
+
+        assertEquals(OptionalInt.of(2), cache.getRemainingSeats(10));
+    }
+
+    @Test
+    void test_put_shouldNotSeedSoldOutSnapshot() {
+        cache.put(session(0));
+
+        assertTrue(cache.getRemainingSeats("Central", START).isEmpty());
+    }
+
+    @Test
+    void test_put_shouldNotReportSoldOutWhenReleaseCommittedAfterSnapshotWasRead() {
+        Session snapshot = session(0);
+        cache.seatReleased(10);
+
+        cache.put(snapshot);
+
+        assertTrue(cache.getRemainingSeats(10).isEmpty());
+    }
+
+    @Test
+    void test_seatReserved_shouldBringCounterToZeroAfterCommit() {
+        cache.put(session(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.seatReserved(10);
+        assertEquals(OptionalInt.of(1), cache.getRemainingSeats(10));
+
+        commit();
+        assertEquals(OptionalInt.of(0), cache.getRemainingSeats("Central", START));
+    }
+
+    @Test
+    void test_seatReleased_shouldIncrementCounterAfterCommit() {
+        cache.put(session(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.seatReleased(10);
+        commit();
+
+        assertEquals(OptionalInt.of(2), cache.getRemainingSeats(10));
+    }
+
+    @Test
+    void test_seatReserved_shouldDropCounterOnRollback() {
+        cache.put(session(2));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.seatReserved(10);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(cache.getRemainingSeats(10).isEmpty());
+    }
+
+    @Test
+    void test_soldOut_shouldDropCounterInsteadOfPinningZero() {
+        cache.put(session(2));
+
+        cache.soldOut(10);
+
+        assertTrue(cache.getRemainingSeats(10).isEmpty());
+    }
+
+    @Test
+    void test_invalidate_shouldForgetSlot() {
+        cache.put(session(2));
+
+        cache.invalidate(10);
+
+        assertTrue(cache.getRemainingSeats("Central", START).isEmpty());
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private Session session(int capacity) {
+        Pool pool = new Pool();
+        pool.setName("Central");
+        Session session = new Session();
+        session.setId(10);
+        session.setPool(pool);
+        session.setStartTime(START);
+        session.setCurrentCapacity(capacity);
+        return session;
+    }
+}